@@ -0,0 +1,102 @@
+package com.projetoresgate.projetoresgate_api.benchmark;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Cpf;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.DocumentValidator;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Rg;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de construir os objetos de valor {@link Cpf} e {@link Rg}, feito em todo cadastro, atualização,
+ * listagem e linha importada. Os documentos alternam a cada chamada para evitar que o JIT trate a entrada como constante.
+ * <p>
+ * Os métodos {@code legacy*} reproduzem a implementação anterior, com {@code replaceAll}, {@code matches} e
+ * concatenações, para comparação com a varredura única do {@link DocumentValidator}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentBenchmark {
+
+    private static final String[] CPFS = {"390.533.447-05", "12345678909", "987.654.321-00", "111.444.777-35", "52998224725"};
+    private static final String[] RGS = {"12.345.678-9", "MG-14.808.688", "2345678X", "33.444.555-x", "9876543210"};
+    private static final int BATCH_SIZE = 1000;
+
+    private final CharSequence[] cpfBatch = new CharSequence[BATCH_SIZE];
+    private final boolean[] results = new boolean[BATCH_SIZE];
+    private int index;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            cpfBatch[i] = CPFS[i % CPFS.length];
+        }
+    }
+
+    @Benchmark
+    public Cpf cpf() {
+        return new Cpf(CPFS[next()]);
+    }
+
+    @Benchmark
+    public String legacyCpf() {
+        String cleaned = CPFS[next()].replaceAll("\\D", "");
+        return legacyIsValid(cleaned) ? cleaned : null;
+    }
+
+    @Benchmark
+    public Rg rg() {
+        return new Rg(RGS[next()]);
+    }
+
+    @Benchmark
+    public String legacyRg() {
+        String cleaned = RGS[next()].replaceAll("[^a-zA-Z0-9]", "").toUpperCase();
+        return cleaned.length() < 5 || cleaned.length() > 15 ? null : cleaned;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int validateCpfBatch() {
+        return DocumentValidator.validateCpfs(cpfBatch, results);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int legacyValidateCpfBatch() {
+        int valid = 0;
+        for (CharSequence cpf : cpfBatch) {
+            if (legacyIsValid(cpf.toString().replaceAll("\\D", ""))) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    private int next() {
+        index = (index + 1) % CPFS.length;
+        return index;
+    }
+
+    private static boolean legacyIsValid(String cpf) {
+        if (cpf.length() != 11 || cpf.matches("(\\d)\\1{10}")) return false;
+
+        int d1 = legacyCalculateDigit(cpf.substring(0, 9), 10);
+        int d2 = legacyCalculateDigit(cpf.substring(0, 9) + d1, 11);
+
+        return cpf.equals(cpf.substring(0, 9) + d1 + d2);
+    }
+
+    private static int legacyCalculateDigit(String str, int weight) {
+        int sum = 0;
+        for (char c : str.toCharArray()) {
+            sum += Character.getNumericValue(c) * weight--;
+        }
+        int result = 11 - (sum % 11);
+        return result > 9 ? 0 : result;
+    }
+}
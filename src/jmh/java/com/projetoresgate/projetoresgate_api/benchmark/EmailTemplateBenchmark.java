@@ -0,0 +1,144 @@
+package com.projetoresgate.projetoresgate_api.benchmark;
+
+import com.projetoresgate.projetoresgate_api.infrastructure.email.EmailTemplateEngine;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a renderização do e-mail de redefinição de senha pelo template segmentado com a abordagem
+ * anterior ({@code String.formatted} sobre o text block a cada requisição), e o custo de codificar o
+ * corpo em parte única frente ao multipart usado antes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    private static final String TOKEN = "q1w2e3r4t5y6u7i8o9p0a1s2d3f4g5h6j7k8l9z0x1c";
+
+    private EmailTemplateEngine engine;
+    private Session session;
+    private String html;
+
+    @Setup
+    public void setUp() {
+        engine = new EmailTemplateEngine("http://localhost:5173");
+        session = Session.getInstance(new Properties());
+        html = engine.render(EmailTemplateEngine.PASSWORD_RESET, Map.of("token", TOKEN));
+    }
+
+    @Benchmark
+    public String renderFormattedTextBlock() {
+        return formattedResetPasswordHtml(TOKEN);
+    }
+
+    @Benchmark
+    public String renderSegmentedTemplate() {
+        return engine.render(EmailTemplateEngine.PASSWORD_RESET, Map.of("token", TOKEN));
+    }
+
+    @Benchmark
+    public void encodeMultipartMessage() throws Exception {
+        encode(true);
+    }
+
+    @Benchmark
+    public void encodeSinglePartMessage() throws Exception {
+        encode(false);
+    }
+
+    private void encode(boolean multipart) throws Exception {
+        MimeMessage message = new MimeMessage(session);
+        MimeMessageHelper helper = new MimeMessageHelper(message, multipart, "UTF-8");
+        helper.setFrom("no-reply@projetoresgate.org");
+        helper.setTo("pessoa@example.com");
+        helper.setSubject("Redefinição de Senha - Projeto Resgate");
+        helper.setText(html, true);
+        message.saveChanges();
+        message.writeTo(OutputStream.nullOutputStream());
+    }
+
+    // Cópia da implementação anterior de RequestPasswordResetService, mantida como referência
+    private static String formattedResetPasswordHtml(String token) {
+        return """
+                <html>
+                  <head>
+                    <meta charset="UTF-8">
+                    <style>
+                      body {
+                        margin: 0;
+                        padding: 0;
+                        background-color: #F3F4F6;
+                        font-family: 'Arial', sans-serif;
+                      }
+                      .container {
+                        background-color: #FFFFFF;
+                        color: #1F2937;
+                        max-width: 500px;
+                        margin: 40px auto;
+                        border-radius: 10px;
+                        padding: 40px 30px;
+                        box-shadow: 0 4px 12px rgba(0, 0, 0, 0.05);
+                        border-top: 5px solid #16A34A;
+                      }
+                      .title {
+                        font-size: 24px;
+                        font-weight: bold;
+                        text-align: center;
+                        margin-bottom: 25px;
+                        color: #16A34A;
+                      }
+                      .content {
+                        font-size: 16px;
+                        line-height: 1.6;
+                        color: #374151;
+                      }
+                      .btn-container {
+                        text-align: center;
+                        margin: 30px 0;
+                      }
+                      .footer {
+                        font-size: 12px;
+                        text-align: center;
+                        color: #9CA3AF;
+                        margin-top: 30px;
+                      }
+                    </style>
+                  </head>
+                  <body>
+                    <div class="container">
+                      <div class="title">Redefinição de Senha</div>
+                      <div class="content">
+                        <p>Olá,</p>
+                        <p>Recebemos uma solicitação para redefinir sua senha no <strong>Projeto Resgate</strong>.</p>
+                        <p>Clique no botão abaixo para continuar:</p>
+                
+                        <div class="btn-container">
+                          <a href="http://localhost:5173/reset-password?token=%s"
+                             style="background-color: #16A34A; color: #FFFFFF; text-decoration: none; padding: 14px 28px; border-radius: 6px; font-size: 16px; font-weight: bold; display: inline-block;">
+                            Redefinir Senha
+                          </a>
+                        </div>
+                
+                        <p>Se você não solicitou essa redefinição, pode ignorar este e-mail.</p>
+                      </div>
+                
+                      <div class="footer">
+                        Este é um e-mail automático. Não é necessário respondê-lo.
+                      </div>
+                    </div>
+                  </body>
+                </html>
+                """.formatted(token);
+    }
+}
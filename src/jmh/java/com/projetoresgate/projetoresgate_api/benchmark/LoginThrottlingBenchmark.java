@@ -0,0 +1,118 @@
+package com.projetoresgate.projetoresgate_api.benchmark;
+
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.core.user.repository.RefreshTokenRepository;
+import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
+import com.projetoresgate.projetoresgate_api.core.user.service.AuthenticateUserService;
+import com.projetoresgate.projetoresgate_api.core.user.service.RefreshTokenService;
+import com.projetoresgate.projetoresgate_api.core.user.usecase.query.AuthenticateUserQuery;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.BoundedPasswordEncoder;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.LoginAttemptLimiter;
+import com.projetoresgate.projetoresgate_api.infrastructure.services.TokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Latência do login legítimo enquanto outras threads fazem credential stuffing contra
+ * contas existentes a partir de poucos IPs, com um intervalo curto entre tentativas. Com o limitador desligado os ataques ocupam o
+ * pool de BCrypt e a latência legítima cresce; ligado, os ataques são recusados antes do hash.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class LoginThrottlingBenchmark {
+
+    private static final String PASSWORD = "password123";
+    private static final int ATTACKER_ADDRESSES = 4;
+    // Intervalo entre tentativas de cada thread atacante, simulando a latência de rede
+    private static final long ATTACKER_PACING_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Param({"true", "false"})
+    public boolean throttlingEnabled;
+
+    private final AtomicInteger legitimateSequence = new AtomicInteger();
+    private BoundedPasswordEncoder passwordEncoder;
+    private AuthenticateUserService authenticateUserService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(8), 2, 1024, meterRegistry);
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+
+        LoginAttemptLimiter limiter = throttlingEnabled
+                ? new LoginAttemptLimiter(meterRegistry, Duration.ofMinutes(1), 20, 5, 100_000)
+                : new LoginAttemptLimiter(meterRegistry, Duration.ofMinutes(1), Integer.MAX_VALUE, Integer.MAX_VALUE, 100_000);
+
+        authenticateUserService = new AuthenticateUserService(
+                inMemoryRepository(encodedPassword), passwordEncoder,
+                new TokenService("benchmark-secret", "default", List.of(), Duration.ofHours(2)), limiter,
+                new RefreshTokenService(discardingRefreshTokenRepository(), meterRegistry, Duration.ofDays(30)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        passwordEncoder.close();
+    }
+
+    @Benchmark
+    @Group("underAttack")
+    @GroupThreads(1)
+    public Object legitimateLogin() {
+        // Cada login legítimo vem de um usuário e endereço distintos
+        int sequence = legitimateSequence.incrementAndGet();
+        String remoteAddress = "10.1." + ((sequence >> 8) & 0xFF) + "." + (sequence & 0xFF);
+        return authenticateUserService.handle(new AuthenticateUserQuery("user" + sequence + "@example.com", PASSWORD, remoteAddress));
+    }
+
+    @Benchmark
+    @Group("underAttack")
+    @GroupThreads(4)
+    public Object credentialStuffing() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String remoteAddress = "203.0.113." + random.nextInt(ATTACKER_ADDRESSES);
+        AuthenticateUserQuery query = new AuthenticateUserQuery("victim" + random.nextInt(1_000) + "@example.com", "leaked-password", remoteAddress);
+        try {
+            return authenticateUserService.handle(query);
+        } catch (RuntimeException e) {
+            return e;
+        } finally {
+            LockSupport.parkNanos(ATTACKER_PACING_NANOS);
+        }
+    }
+
+    private static UserRepository inMemoryRepository(String encodedPassword) {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(), new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByEmail" -> {
+                        User user = User.create((String) args[0], encodedPassword, "Benchmark", null);
+                        user.setId(UUID.randomUUID());
+                        yield Optional.of(user);
+                    }
+                    case "save" -> args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static RefreshTokenRepository discardingRefreshTokenRepository() {
+        return (RefreshTokenRepository) Proxy.newProxyInstance(RefreshTokenRepository.class.getClassLoader(), new Class<?>[]{RefreshTokenRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "save" -> args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
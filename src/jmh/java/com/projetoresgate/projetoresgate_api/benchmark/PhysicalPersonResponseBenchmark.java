@@ -0,0 +1,68 @@
+package com.projetoresgate.projetoresgate_api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonResponse;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.enums.Gender;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Cpf;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Rg;
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Montagem das respostas da listagem a partir das entidades e serialização da página, como feito pelo
+ * {@code GET /physical-person}. O {@link ObjectMapper} usa as mesmas configurações padrão do Spring Boot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PhysicalPersonResponseBenchmark {
+
+    private static final String[] CPFS = {"39053344705", "12345678909", "98765432100", "11144477735", "52998224725"};
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private List<PhysicalPerson> entities;
+    private Page<PhysicalPersonResponse> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        entities = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            User user = User.create("pessoa" + i + "@example.com", null, "Pessoa Benchmark " + i, "apelido" + i);
+            user.setId(UUID.randomUUID());
+            PhysicalPerson person = PhysicalPerson.create(user, new Cpf(CPFS[i % CPFS.length]), new Rg("12.345.678-" + (i % 10)),
+                    LocalDate.of(1990, 1, 1).plusDays(i), Gender.values()[i % Gender.values().length], "(11) 3333-4444", "(11) 99999-8888");
+            person.setId(UUID.randomUUID());
+            entities.add(person);
+        }
+        page = new PageImpl<>(mapEntities(), PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public List<PhysicalPersonResponse> mapEntities() {
+        return entities.stream().map(PhysicalPersonResponse::fromEntity).toList();
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
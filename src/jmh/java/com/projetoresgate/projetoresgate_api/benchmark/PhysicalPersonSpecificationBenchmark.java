@@ -0,0 +1,78 @@
+package com.projetoresgate.projetoresgate_api.benchmark;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Cpf;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Rg;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonSearchEngine;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonSpecifications;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.PhysicalPersonCountMode;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.SearchPhysicalPersonQuery;
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Montagem da consulta da listagem pelo {@code SearchPhysicalPersonService}: a {@link Specification} com todos os
+ * filtros aplicada a uma {@link CriteriaQuery} e, em seguida, a criação da consulta no Hibernate.
+ * <p>
+ * O Hibernate sobe sobre um H2 em memória apenas para ter o metamodelo; nenhuma consulta é executada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PhysicalPersonSpecificationBenchmark {
+
+    @Param({"CRITERIA", "TRIGRAM"})
+    public PhysicalPersonSearchEngine engine;
+
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private SearchPhysicalPersonQuery query;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(PhysicalPerson.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:specification-benchmark;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "none")
+                .buildSessionFactory();
+        entityManager = sessionFactory.createEntityManager();
+        query = new SearchPhysicalPersonQuery("Joao da Silva 390.533", new Rg("12.345.678-9"), new Cpf("39053344705"),
+                "99999", null, PageRequest.of(0, 10), PhysicalPersonCountMode.EXACT);
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public CriteriaQuery<PhysicalPerson> buildCriteria() {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PhysicalPerson> criteriaQuery = criteriaBuilder.createQuery(PhysicalPerson.class);
+        Root<PhysicalPerson> root = criteriaQuery.from(PhysicalPerson.class);
+        Specification<PhysicalPerson> spec = PhysicalPersonSpecifications.search(query, engine);
+        return criteriaQuery.select(root).where(spec.toPredicate(root, criteriaQuery, criteriaBuilder));
+    }
+
+    @Benchmark
+    public TypedQuery<PhysicalPerson> buildTypedQuery() {
+        return entityManager.createQuery(buildCriteria());
+    }
+}
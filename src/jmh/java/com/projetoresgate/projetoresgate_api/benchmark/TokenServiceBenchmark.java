@@ -0,0 +1,56 @@
+package com.projetoresgate.projetoresgate_api.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.infrastructure.services.TokenService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emissão de tokens e comparação da validação com verificador pré-construído com a abordagem anterior,
+ * que recriava o {@link Algorithm} e o verificador a cada chamada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret";
+
+    private TokenService tokenService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = new TokenService(SECRET, "default", List.of(), Duration.ofHours(2));
+
+        user = User.create("benchmark@example.com", "encodedPassword", "Benchmark", null);
+        user.setId(UUID.randomUUID());
+        token = tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String validateTokenRebuildingVerifier() {
+        Algorithm algorithm = Algorithm.HMAC256(SECRET);
+        return JWT.require(algorithm).withIssuer("projetoresgate_api").build().verify(token).getSubject();
+    }
+
+    @Benchmark
+    public String validateTokenPrebuiltVerifier() {
+        return tokenService.validateToken(token);
+    }
+}
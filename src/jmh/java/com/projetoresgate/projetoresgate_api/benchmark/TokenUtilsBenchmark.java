@@ -0,0 +1,90 @@
+package com.projetoresgate.projetoresgate_api.benchmark;
+
+import com.projetoresgate.projetoresgate_api.infrastructure.utils.TokenUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Geração e hash dos tokens opacos de confirmação de e-mail, redefinição de senha e renovação de sessão,
+ * com 1, 8 e 64 threads simultâneas (uma subclasse por quantidade).
+ * <p>
+ * Os métodos {@code legacy*} reproduzem a implementação anterior, que buscava um {@link MessageDigest} a cada
+ * hash e fazia todas as threads passarem pelo mesmo {@link SecureRandom}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class TokenUtilsBenchmark {
+
+    private static final SecureRandom legacySecureRandom = new SecureRandom();
+
+    private String token;
+
+    @State(Scope.Thread)
+    public static class RequestBuffer {
+
+        private byte[] request;
+        private final byte[] hash = new byte[TokenUtils.HASH_LENGTH];
+
+        @Setup
+        public void setUp() {
+            request = ("{\"token\":\"" + TokenUtils.generateSecureToken() + "\"}").getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        token = TokenUtils.generateSecureToken();
+    }
+
+    @Benchmark
+    public String generateSecureToken() {
+        return TokenUtils.generateSecureToken();
+    }
+
+    @Benchmark
+    public String legacyGenerateSecureToken() {
+        byte[] randomBytes = new byte[32];
+        legacySecureRandom.nextBytes(randomBytes);
+        return Base64.getUrlEncoder().encodeToString(randomBytes);
+    }
+
+    @Benchmark
+    public String hashToken() {
+        return TokenUtils.hashToken(token);
+    }
+
+    @Benchmark
+    public byte[] hashTokenBytes(RequestBuffer buffer) {
+        // Token entre as aspas de {"token":"..."}
+        TokenUtils.hashToken(buffer.request, 10, buffer.request.length - 12, buffer.hash);
+        return buffer.hash;
+    }
+
+    @Benchmark
+    public String legacyHashToken() throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Threads(1)
+    public static class OneThread extends TokenUtilsBenchmark {
+    }
+
+    @Threads(8)
+    public static class EightThreads extends TokenUtilsBenchmark {
+    }
+
+    @Threads(64)
+    public static class SixtyFourThreads extends TokenUtilsBenchmark {
+    }
+}
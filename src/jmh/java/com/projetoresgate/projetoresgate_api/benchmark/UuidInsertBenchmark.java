@@ -0,0 +1,103 @@
+package com.projetoresgate.projetoresgate_api.benchmark;
+
+import com.projetoresgate.projetoresgate_api.infrastructure.baseentities.TimeOrderedUuidGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Vazão de inserts em lote em uma tabela com chave primária UUID, comparando ids aleatórios (v4)
+ * com ids ordenados por tempo (v7), em um PostgreSQL local.
+ * <p>
+ * A tabela é pré-carregada para que o índice da chave primária não caiba nas primeiras páginas.
+ * Conexão: {@code -Dbenchmark.db.url}, {@code -Dbenchmark.db.username} e {@code -Dbenchmark.db.password}
+ * (por padrão o banco de {@code application-dev.properties}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+    public enum IdStrategy {
+        RANDOM_V4(UUID::randomUUID),
+        TIME_ORDERED_V7(TimeOrderedUuidGenerator::next);
+
+        private final Supplier<UUID> generator;
+
+        IdStrategy(Supplier<UUID> generator) {
+            this.generator = generator;
+        }
+    }
+
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"RANDOM_V4", "TIME_ORDERED_V7"})
+    public IdStrategy strategy;
+
+    @Param({"500000"})
+    public int preloadedRows;
+
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", System.getProperty("benchmark.db.username", "admin"));
+        properties.setProperty("password", System.getProperty("benchmark.db.password", "admin"));
+        properties.setProperty("reWriteBatchedInserts", "true");
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5432/projetoresgatedb"), properties);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS benchmark_uuid_insert");
+            statement.execute("CREATE TABLE benchmark_uuid_insert (id UUID PRIMARY KEY, payload VARCHAR(64) NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO benchmark_uuid_insert (id, payload) VALUES (?, ?)");
+        for (int i = 0; i < preloadedRows; i += BATCH_SIZE) {
+            insertBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE benchmark_uuid_insert");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS benchmark_uuid_insert");
+            connection.commit();
+        } finally {
+            connection.close();
+        }
+    }
+
+    /**
+     * Um lote do tamanho de {@code hibernate.jdbc.batch_size}, confirmado como uma transação.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, strategy.generator.get());
+            insert.setString(2, "payload");
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+}
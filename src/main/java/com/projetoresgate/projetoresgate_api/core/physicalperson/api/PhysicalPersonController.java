@@ -1,5 +1,8 @@
 package com.projetoresgate.projetoresgate_api.core.physicalperson.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.CursorSliceResponse;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonImportResponse;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonResponse;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.enums.Gender;
@@ -7,10 +10,15 @@ import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Cpf;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Rg;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.*;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.command.CreatePhysicalPersonCommand;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.command.ImportPhysicalPersonCommand;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.command.SoftDeletePhysicalPersonCommand;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.command.UpdatePhysicalPersonCommand;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.ExportPhysicalPersonQuery;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.FindPhysicalPersonByIdQuery;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.FindPhysicalPersonByUserIdQuery;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.PhysicalPersonCountMode;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.PhysicalPersonCursor;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.ScrollPhysicalPersonQuery;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.SearchPhysicalPersonQuery;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -23,10 +31,20 @@ import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -40,19 +58,31 @@ public class PhysicalPersonController {
     private final FindPhysicalPersonByIdUseCase findByIdUseCase;
     private final FindPhysicalPersonByUserIdUseCase findByUserIdUseCase;
     private final SearchPhysicalPersonUseCase searchUseCase;
+    private final ScrollPhysicalPersonUseCase scrollUseCase;
+    private final ImportPhysicalPersonUseCase importUseCase;
+    private final ExportPhysicalPersonUseCase exportUseCase;
+    private final ObjectMapper objectMapper;
 
     public PhysicalPersonController(CreatePhysicalPersonUseCase createUseCase,
                                     UpdatePhysicalPersonUseCase updateUseCase,
                                     SoftDeletePhysicalPersonUseCase softDeleteUseCase,
                                     FindPhysicalPersonByIdUseCase findByIdUseCase,
                                     FindPhysicalPersonByUserIdUseCase findByUserIdUseCase,
-                                    SearchPhysicalPersonUseCase searchUseCase) {
+                                    SearchPhysicalPersonUseCase searchUseCase,
+                                    ScrollPhysicalPersonUseCase scrollUseCase,
+                                    ImportPhysicalPersonUseCase importUseCase,
+                                    ExportPhysicalPersonUseCase exportUseCase,
+                                    ObjectMapper objectMapper) {
         this.createUseCase = createUseCase;
         this.updateUseCase = updateUseCase;
         this.softDeleteUseCase = softDeleteUseCase;
         this.findByIdUseCase = findByIdUseCase;
         this.findByUserIdUseCase = findByUserIdUseCase;
         this.searchUseCase = searchUseCase;
+        this.scrollUseCase = scrollUseCase;
+        this.importUseCase = importUseCase;
+        this.exportUseCase = exportUseCase;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -67,6 +97,20 @@ public class PhysicalPersonController {
         return ResponseEntity.status(HttpStatus.CREATED).body(PhysicalPersonResponse.fromEntity(person));
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    @Operation(summary = "Importar Pessoas Físicas", description = "Cadastra em lote as pessoas físicas de um CSV em UTF-8 enviado como corpo da requisição, "
+            + "separado por vírgula ou ponto e vírgula, com cabeçalho name, email, cpf e, opcionalmente, nickname, rg, birthDate, phone, cellphone e gender. "
+            + "O arquivo é processado à medida que chega; as linhas rejeitadas são listadas no relatório e as demais são gravadas.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Arquivo processado; o relatório traz as linhas rejeitadas",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PhysicalPersonImportResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Arquivo vazio ou cabeçalho sem as colunas obrigatórias", content = @Content)
+    })
+    public ResponseEntity<PhysicalPersonImportResponse> importCsv(InputStream body) {
+        ImportPhysicalPersonCommand command = new ImportPhysicalPersonCommand(new InputStreamReader(body, StandardCharsets.UTF_8));
+        return ResponseEntity.ok(importUseCase.handle(command));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Atualizar Pessoa Física", description = "Atualiza os dados de uma pessoa física existente.")
     @ApiResponses(value = {
@@ -93,24 +137,82 @@ public class PhysicalPersonController {
     }
 
     @GetMapping
-    @Operation(summary = "Listar com Filtros", description = "Lista pessoas físicas com paginação e filtros opcionais.")
+    @Operation(summary = "Listar com Filtros", description = "Lista pessoas físicas com paginação e filtros opcionais. Com withCount=false a resposta não traz o total de registros.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class)))
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class))),
+            @ApiResponse(responseCode = "400", description = "Valor inválido para withCount", content = @Content)
     })
-    public ResponseEntity<Page<PhysicalPersonResponse>> search(
+    public ResponseEntity<Slice<PhysicalPersonResponse>> search(
             @Parameter(description = "Termo de pesquisa (Nome, Nickname, CPF ou RG)") @RequestParam(required = false) String searchTerm,
             @Parameter(description = "CPF") @RequestParam(required = false) String cpf,
             @Parameter(description = "RG") @RequestParam(required = false) String rg,
             @Parameter(description = "Celular") @RequestParam(required = false) String cellphone,
             @Parameter(description = "Gênero") @RequestParam(required = false) Gender gender,
             @Parameter(description = "Número da página") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "10") int size
+            @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Cálculo do total: exact (padrão), approx (em cache por alguns segundos) ou false (sem total)") @RequestParam(defaultValue = "exact") String withCount
     ) {
         Pageable pageable = PageRequest.of(page, size);
-        SearchPhysicalPersonQuery query = new SearchPhysicalPersonQuery(searchTerm, new Rg(rg), new Cpf(cpf), cellphone, gender, pageable);
-        Page<PhysicalPerson> pageResult = searchUseCase.handle(query);
-        return ResponseEntity.ok(pageResult.map(PhysicalPersonResponse::fromEntity));
+        SearchPhysicalPersonQuery query = new SearchPhysicalPersonQuery(searchTerm, new Rg(rg), new Cpf(cpf), cellphone, gender, pageable,
+                PhysicalPersonCountMode.fromParameter(withCount));
+        return ResponseEntity.ok(searchUseCase.handle(query));
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "Listar com Cursor", description = "Lista pessoas físicas da mais recente para a mais antiga usando paginação por cursor, sem contagem total. Indicado para navegação profunda.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido", content = @Content)
+    })
+    public ResponseEntity<CursorSliceResponse<PhysicalPersonResponse>> scroll(
+            @Parameter(description = "Termo de pesquisa (Nome, Nickname, CPF ou RG)") @RequestParam(required = false) String searchTerm,
+            @Parameter(description = "CPF") @RequestParam(required = false) String cpf,
+            @Parameter(description = "RG") @RequestParam(required = false) String rg,
+            @Parameter(description = "Celular") @RequestParam(required = false) String cellphone,
+            @Parameter(description = "Gênero") @RequestParam(required = false) Gender gender,
+            @Parameter(description = "Cursor retornado em nextCursor pela página anterior") @RequestParam(required = false) String after,
+            @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "10") int size
+    ) {
+        PhysicalPersonCursor cursor = StringUtils.hasText(after) ? PhysicalPersonCursor.decode(after) : null;
+        ScrollPhysicalPersonQuery query = new ScrollPhysicalPersonQuery(searchTerm, new Rg(rg), new Cpf(cpf), cellphone, gender, cursor, size);
+        Slice<PhysicalPerson> slice = scrollUseCase.handle(query);
+
+        String nextCursor = slice.hasNext() ? PhysicalPersonCursor.of(slice.getContent().getLast()).encode() : null;
+        List<PhysicalPersonResponse> content = slice.getContent().stream().map(PhysicalPersonResponse::fromEntity).toList();
+        return ResponseEntity.ok(new CursorSliceResponse<>(content, slice.getSize(), slice.hasNext(), nextCursor));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Exportar com Filtros", description = "Exporta todas as pessoas físicas que atendem aos filtros, em CSV ou NDJSON. "
+            + "Os registros são lidos do banco e enviados aos poucos, sem paginação nem contagem.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Arquivo gerado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Valor inválido para format", content = @Content)
+    })
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "Termo de pesquisa (Nome, Nickname, CPF ou RG)") @RequestParam(required = false) String searchTerm,
+            @Parameter(description = "CPF") @RequestParam(required = false) String cpf,
+            @Parameter(description = "RG") @RequestParam(required = false) String rg,
+            @Parameter(description = "Celular") @RequestParam(required = false) String cellphone,
+            @Parameter(description = "Gênero") @RequestParam(required = false) Gender gender,
+            @Parameter(description = "Formato do arquivo: csv (padrão) ou ndjson") @RequestParam(defaultValue = "csv") String format
+    ) {
+        PhysicalPersonExportFormat exportFormat = PhysicalPersonExportFormat.fromParameter(format);
+        ExportPhysicalPersonQuery query = new ExportPhysicalPersonQuery(searchTerm, new Rg(rg), new Cpf(cpf), cellphone, gender);
+
+        StreamingResponseBody body = output -> {
+            PhysicalPersonExportWriter writer = PhysicalPersonExportWriter.create(exportFormat, output, objectMapper);
+            exportUseCase.handle(query, writer);
+            writer.finish();
+        };
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("pessoas-fisicas." + exportFormat.extension())
+                        .build()
+                        .toString())
+                .body(body);
     }
 
     @GetMapping("/{id}")
@@ -122,8 +224,7 @@ public class PhysicalPersonController {
     })
     public ResponseEntity<PhysicalPersonResponse> findById(@PathVariable UUID id) {
         FindPhysicalPersonByIdQuery query = new FindPhysicalPersonByIdQuery(id);
-        PhysicalPerson person = findByIdUseCase.handle(query);
-        return ResponseEntity.ok(PhysicalPersonResponse.fromEntity(person));
+        return ResponseEntity.ok(findByIdUseCase.handle(query));
     }
 
     @GetMapping("/user/{userId}")
@@ -135,7 +236,6 @@ public class PhysicalPersonController {
     })
     public ResponseEntity<PhysicalPersonResponse> findByUserId(@PathVariable UUID userId) {
         FindPhysicalPersonByUserIdQuery query = new FindPhysicalPersonByUserIdQuery(userId);
-        PhysicalPerson person = findByUserIdUseCase.handle(query);
-        return ResponseEntity.ok(PhysicalPersonResponse.fromEntity(person));
+        return ResponseEntity.ok(findByUserIdUseCase.handle(query));
     }
 }
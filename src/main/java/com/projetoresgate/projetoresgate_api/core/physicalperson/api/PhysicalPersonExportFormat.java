@@ -0,0 +1,51 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.api;
+
+import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Formatos de saída da exportação de pessoas físicas.
+ */
+public enum PhysicalPersonExportFormat {
+
+    /**
+     * Uma linha por pessoa, com as mesmas colunas aceitas pela importação.
+     */
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+
+    /**
+     * Um objeto JSON por linha, no mesmo formato das respostas da listagem.
+     */
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    PhysicalPersonExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static PhysicalPersonExportFormat fromParameter(String value) {
+        if (!StringUtils.hasText(value)) {
+            return CSV;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "csv" -> CSV;
+            case "ndjson" -> NDJSON;
+            default -> throw new InternalException("Valor inválido para format. Use csv ou ndjson.");
+        };
+    }
+}
@@ -0,0 +1,94 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonResponse;
+import com.projetoresgate.projetoresgate_api.infrastructure.utils.CsvWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Escreve as pessoas exportadas direto na resposta, à medida que são lidas do banco.
+ */
+abstract class PhysicalPersonExportWriter implements Consumer<PhysicalPersonResponse> {
+
+    static PhysicalPersonExportWriter create(PhysicalPersonExportFormat format, OutputStream output, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new Csv(output);
+            case NDJSON -> new Ndjson(output, objectMapper);
+        };
+    }
+
+    @Override
+    public void accept(PhysicalPersonResponse person) {
+        try {
+            write(person);
+        } catch (IOException e) {
+            // Normalmente o cliente encerrou o download: interrompe a leitura do cursor
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    abstract void write(PhysicalPersonResponse person) throws IOException;
+
+    abstract void finish() throws IOException;
+
+    private static final class Csv extends PhysicalPersonExportWriter {
+
+        private final CsvWriter writer;
+
+        Csv(OutputStream output) throws IOException {
+            this.writer = new CsvWriter(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
+            writer.writeRecord("id", "userId", "name", "email", "nickname", "rg", "cpf", "birthDate", "phone", "cellphone", "gender");
+        }
+
+        @Override
+        void write(PhysicalPersonResponse person) throws IOException {
+            writer.writeRecord(
+                    person.id().toString(),
+                    person.userId().toString(),
+                    person.name(),
+                    person.email(),
+                    person.nickname(),
+                    person.rg() != null ? person.rg().getValue() : null,
+                    person.cpf() != null ? person.cpf().getValue() : null,
+                    person.birthDate() != null ? person.birthDate().toString() : null,
+                    person.phone(),
+                    person.cellphone(),
+                    person.gender() != null ? person.gender().name() : null);
+        }
+
+        @Override
+        void finish() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static final class Ndjson extends PhysicalPersonExportWriter {
+
+        private final JsonGenerator generator;
+
+        Ndjson(OutputStream output, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.createGenerator(output);
+            // O separador padrão entre valores na raiz é um espaço; aqui cada valor termina a própria linha
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void write(PhysicalPersonResponse person) throws IOException {
+            generator.writeObject(person);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto;
+
+import java.util.List;
+
+/**
+ * Página da paginação por cursor. {@code nextCursor} é nulo na última página.
+ */
+public record CursorSliceResponse<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
@@ -0,0 +1,20 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto;
+
+import java.util.List;
+
+/**
+ * Resultado da importação: as linhas não listadas em {@code errors} foram gravadas.
+ */
+public record PhysicalPersonImportResponse(
+        long totalRows,
+        long importedRows,
+        long rejectedRows,
+        List<RowError> errors
+) {
+
+    /**
+     * @param line linha do arquivo, contando o cabeçalho como linha 1
+     */
+    public record RowError(long line, String cpf, String email, String message) {
+    }
+}
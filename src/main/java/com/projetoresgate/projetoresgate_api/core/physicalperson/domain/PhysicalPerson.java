@@ -5,8 +5,11 @@ import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Cpf;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Rg;
 import com.projetoresgate.projetoresgate_api.core.user.domain.User;
 import com.projetoresgate.projetoresgate_api.infrastructure.baseentities.BaseModel;
+import com.projetoresgate.projetoresgate_api.infrastructure.config.CacheRegions;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -14,12 +17,14 @@ import java.time.LocalDate;
 
 @Entity
 @Table(name = "physical_persons")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PHYSICAL_PERSONS)
 @SQLDelete(sql = "UPDATE physical_persons SET deleted_at = now() WHERE id = ?")
 @Where(clause = "deleted_at is null")
 public class PhysicalPerson extends BaseModel {
 
     @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
-    @JoinColumn(name = "user_id", unique = true, nullable = false, updatable = false)
+    @JoinColumn(name = "user_id", nullable = false, updatable = false)
     private User user;
 
     @Embedded
@@ -41,6 +46,10 @@ public class PhysicalPerson extends BaseModel {
     @Column(name = "cellphone")
     private String cellphone;
 
+    // Mantida por trigger no PostgreSQL (V004); usada apenas pela busca por trigramas
+    @Column(name = "search_text", insertable = false, updatable = false)
+    private String searchText;
+
     protected PhysicalPerson() {
     }
 
@@ -0,0 +1,186 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo;
+
+/**
+ * Validação e normalização de CPF e RG em uma única passada sobre os caracteres, sem expressões regulares
+ * nem strings intermediárias.
+ * <p>
+ * A normalização mantém apenas os dígitos do CPF e as letras e dígitos ASCII do RG (em maiúsculas). Quando a
+ * entrada já está normalizada e é uma {@link String}, ela própria é devolvida; caso contrário é criada uma
+ * única string com o resultado. A validação não aloca nada, o que permite checar lotes inteiros, como as
+ * linhas de uma importação, com {@link #validateCpfs} e {@link #validateRgs}.
+ */
+public final class DocumentValidator {
+
+    public static final int CPF_LENGTH = 11;
+    public static final int RG_MIN_LENGTH = 5;
+    public static final int RG_MAX_LENGTH = 15;
+
+    private static final long INVALID = -1;
+
+    private DocumentValidator() {
+    }
+
+    public static boolean isValidCpf(CharSequence value) {
+        return value != null && scanCpf(value) != INVALID;
+    }
+
+    /**
+     * @return os 11 dígitos do CPF, ou {@code null} se ele for inválido
+     */
+    public static String normalizeCpf(CharSequence value) {
+        if (value == null) {
+            return null;
+        }
+        long digits = scanCpf(value);
+        if (digits == INVALID) {
+            return null;
+        }
+        if (value instanceof String string && string.length() == CPF_LENGTH) {
+            return string;
+        }
+        char[] chars = new char[CPF_LENGTH];
+        for (int i = CPF_LENGTH - 1; i >= 0; i--) {
+            chars[i] = (char) ('0' + digits % 10);
+            digits /= 10;
+        }
+        return new String(chars);
+    }
+
+    public static boolean isValidRg(CharSequence value) {
+        if (value == null) {
+            return false;
+        }
+        int length = 0;
+        for (int i = 0, size = value.length(); i < size; i++) {
+            if (isAsciiLetterOrDigit(value.charAt(i)) && ++length > RG_MAX_LENGTH) {
+                return false;
+            }
+        }
+        return length >= RG_MIN_LENGTH;
+    }
+
+    /**
+     * @return as letras e dígitos do RG em maiúsculas, ou {@code null} se o tamanho resultante for inválido
+     */
+    public static String normalizeRg(CharSequence value) {
+        if (value == null) {
+            return null;
+        }
+        int size = value.length();
+        int length = 0;
+        boolean normalized = true;
+        for (int i = 0; i < size; i++) {
+            char c = value.charAt(i);
+            if (!isAsciiLetterOrDigit(c)) {
+                normalized = false;
+            } else if (++length > RG_MAX_LENGTH) {
+                return null;
+            } else if (c >= 'a') {
+                normalized = false;
+            }
+        }
+        if (length < RG_MIN_LENGTH) {
+            return null;
+        }
+        if (normalized && value instanceof String string) {
+            return string;
+        }
+        char[] chars = new char[length];
+        for (int i = 0, j = 0; i < size; i++) {
+            char c = value.charAt(i);
+            if (isAsciiLetterOrDigit(c)) {
+                chars[j++] = c >= 'a' ? (char) (c - ('a' - 'A')) : c;
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Valida um lote de CPFs, gravando em {@code results[i]} se {@code documents[i]} é válido.
+     *
+     * @return quantidade de CPFs válidos
+     */
+    public static int validateCpfs(CharSequence[] documents, boolean[] results) {
+        checkResultsLength(documents, results);
+        int valid = 0;
+        for (int i = 0; i < documents.length; i++) {
+            results[i] = isValidCpf(documents[i]);
+            if (results[i]) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Valida um lote de RGs, gravando em {@code results[i]} se {@code documents[i]} tem tamanho válido.
+     * Entradas nulas contam como inválidas.
+     *
+     * @return quantidade de RGs válidos
+     */
+    public static int validateRgs(CharSequence[] documents, boolean[] results) {
+        checkResultsLength(documents, results);
+        int valid = 0;
+        for (int i = 0; i < documents.length; i++) {
+            results[i] = isValidRg(documents[i]);
+            if (results[i]) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    // Devolve os 11 dígitos compactados em um long, calculando os dígitos verificadores durante a leitura
+    private static long scanCpf(CharSequence value) {
+        long digits = 0;
+        int count = 0;
+        int firstDigit = -1;
+        boolean allEqual = true;
+        int firstSum = 0;
+        int secondSum = 0;
+        for (int i = 0, size = value.length(); i < size; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                continue;
+            }
+            if (count == CPF_LENGTH) {
+                return INVALID;
+            }
+            int digit = c - '0';
+            if (count == 0) {
+                firstDigit = digit;
+            } else if (digit != firstDigit) {
+                allEqual = false;
+            }
+            if (count < 9) {
+                firstSum += digit * (10 - count);
+            }
+            if (count < 10) {
+                secondSum += digit * (11 - count);
+            }
+            digits = digits * 10 + digit;
+            count++;
+        }
+        if (count != CPF_LENGTH || allEqual) {
+            return INVALID;
+        }
+        int firstCheck = checkDigit(firstSum);
+        int secondCheck = checkDigit(secondSum);
+        return digits / 10 % 10 == firstCheck && digits % 10 == secondCheck ? digits : INVALID;
+    }
+
+    private static int checkDigit(int sum) {
+        int result = 11 - (sum % 11);
+        return result > 9 ? 0 : result;
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static void checkResultsLength(CharSequence[] documents, boolean[] results) {
+        if (results.length < documents.length) {
+            throw new IllegalArgumentException("O vetor de resultados é menor que o de documentos.");
+        }
+    }
+}
@@ -22,13 +22,13 @@ public class Rg {
             return;
         }
 
-        String cleaned = value.replaceAll("[^a-zA-Z0-9]", "").toUpperCase();
+        String normalized = DocumentValidator.normalizeRg(value);
 
-        if (cleaned.length() < 5 || cleaned.length() > 15) {
+        if (normalized == null) {
             throw new InternalException("O RG informado possui tamanho inválido.");
         }
 
-        this.value = cleaned;
+        this.value = normalized;
     }
 
     public String getValue() {
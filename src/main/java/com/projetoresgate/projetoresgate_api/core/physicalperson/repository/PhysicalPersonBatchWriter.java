@@ -0,0 +1,107 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.repository;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.core.user.domain.enums.UserRole;
+import com.projetoresgate.projetoresgate_api.infrastructure.cache.CacheInvalidationPublisher;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Grava pessoas físicas recém-criadas, com seus usuários e papéis, em lotes JDBC, sem passar pelo contexto de persistência.
+ * <p>
+ * Usado pela importação em massa: os ids já vêm preenchidos nas entidades e a chamada deve ocorrer dentro de uma transação.
+ * Como o Hibernate não vê essas gravações, o cache de consultas é descartado após o commit, nesta e nas outras
+ * réplicas; do contrário, uma busca por e-mail ou CPF feita antes da importação continuaria respondendo que o
+ * registro não existe.
+ */
+@Repository
+public class PhysicalPersonBatchWriter {
+
+    private static final String INSERT_USER = """
+            INSERT INTO users (id, date_created, date_updated, email, password, name, nickname, is_email_verified, token_version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String INSERT_ROLE = "INSERT INTO user_roles (user_id, role) VALUES (?, ?)";
+    private static final String INSERT_PHYSICAL_PERSON = """
+            INSERT INTO physical_persons (id, user_id, cpf, rg, birth_date, gender, phone, cellphone, date_created, date_updated)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    public PhysicalPersonBatchWriter(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory,
+                                     CacheInvalidationPublisher invalidationPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    public void insertAll(List<PhysicalPerson> persons) {
+        if (persons.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_USER, persons, persons.size(), (statement, person) -> {
+            User user = person.getUser();
+            statement.setObject(1, user.getId());
+            statement.setTimestamp(2, now);
+            statement.setTimestamp(3, now);
+            statement.setString(4, user.getEmail());
+            statement.setString(5, user.getPassword());
+            statement.setString(6, user.getName());
+            statement.setString(7, user.getNickname());
+            statement.setBoolean(8, user.isEmailVerified());
+            statement.setInt(9, user.getTokenVersion());
+        });
+
+        List<Object[]> roles = new ArrayList<>(persons.size() * 2);
+        for (PhysicalPerson person : persons) {
+            for (UserRole role : person.getUser().getRoles()) {
+                roles.add(new Object[]{person.getUser().getId(), role.name()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_ROLE, roles);
+
+        jdbcTemplate.batchUpdate(INSERT_PHYSICAL_PERSON, persons, persons.size(), (statement, person) -> {
+            statement.setObject(1, person.getId());
+            statement.setObject(2, person.getUser().getId());
+            statement.setString(3, person.getCpf().getValue());
+            statement.setString(4, person.getRg() != null ? person.getRg().getValue() : null);
+            statement.setDate(5, person.getBirthDate() != null ? Date.valueOf(person.getBirthDate()) : null);
+            statement.setString(6, person.getGender() != null ? person.getGender().name() : null);
+            statement.setString(7, person.getPhone());
+            statement.setString(8, person.getCellphone());
+            statement.setTimestamp(9, now);
+            statement.setTimestamp(10, now);
+        });
+
+        evictQueryCacheAfterCommit();
+        invalidationPublisher.queryResultsChanged();
+    }
+
+    private void evictQueryCacheAfterCommit() {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.evictQueryRegions();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.evictQueryRegions();
+            }
+        });
+    }
+}
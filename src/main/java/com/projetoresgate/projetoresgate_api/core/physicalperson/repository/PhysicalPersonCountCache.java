@@ -0,0 +1,52 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.enums.Gender;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.PhysicalPersonSearchFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * Totais da listagem de pessoas físicas guardados por poucos segundos, indexados pela
+ * combinação normalizada de filtros. Usado no modo {@code withCount=approx}.
+ */
+@Component
+public class PhysicalPersonCountCache {
+
+    private final Cache<CountKey, Long> counts;
+
+    public PhysicalPersonCountCache(MeterRegistry meterRegistry,
+                                    @Value("${api.physical-person.search.approx-count.ttl:30s}") Duration ttl,
+                                    @Value("${api.physical-person.search.approx-count.maximum-size:1000}") long maximumSize) {
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "physical-person.search.counts");
+    }
+
+    public long count(PhysicalPersonSearchFilter filter, LongSupplier counter) {
+        return counts.get(CountKey.of(filter), key -> counter.getAsLong());
+    }
+
+    private record CountKey(String searchTerm, String cpf, String rg, String cellphone, Gender gender) {
+
+        static CountKey of(PhysicalPersonSearchFilter filter) {
+            return new CountKey(
+                    StringUtils.hasText(filter.searchTerm()) ? filter.searchTerm().trim().toLowerCase(Locale.ROOT) : null,
+                    filter.cpf() != null ? filter.cpf().getValue() : null,
+                    filter.rg() != null ? filter.rg().getValue() : null,
+                    StringUtils.hasText(filter.cellphone()) ? filter.cellphone().trim() : null,
+                    filter.gender());
+        }
+    }
+}
@@ -2,23 +2,65 @@ package com.projetoresgate.projetoresgate_api.core.physicalperson.repository;
 
 import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Cpf;
+import com.projetoresgate.projetoresgate_api.infrastructure.config.CacheRegions;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.ResourceNotFoundException;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface PhysicalPersonRepository extends JpaRepository<PhysicalPerson, UUID>, JpaSpecificationExecutor<PhysicalPerson> {
+public interface PhysicalPersonRepository extends JpaRepository<PhysicalPerson, UUID>, JpaSpecificationExecutor<PhysicalPerson>,
+        PhysicalPersonRepositoryCustom {
 
+    // O usuário é carregado junto: as respostas são montadas sem depender de open-in-view
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Optional<PhysicalPerson> findById(UUID id);
+
+    @EntityGraph(attributePaths = "user")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PHYSICAL_PERSONS_BY_USER_ID)
+    })
     Optional<PhysicalPerson> findByUserId(UUID userId);
 
+    // Usado apenas pela listagem: entidades somente leitura, sem snapshot para dirty checking
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    Page<PhysicalPerson> findAll(Specification<PhysicalPerson> spec, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PHYSICAL_PERSONS_BY_CPF)
+    })
     boolean existsByCpf(Cpf cpf);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PHYSICAL_PERSONS_BY_CPF)
+    })
     boolean existsByCpfAndIdNot(Cpf cpf, UUID id);
 
+    // Conferência em lote da importação: uma consulta por lote de linhas em vez de uma por CPF
+    @Query("select p.cpf.value from PhysicalPerson p where p.cpf.value in ?1")
+    List<String> findExistingCpfs(Collection<String> cpfs);
+
     default PhysicalPerson findByIdOrThrow(UUID id) {
         return findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Pessoa física não encontrada com ID: " + id));
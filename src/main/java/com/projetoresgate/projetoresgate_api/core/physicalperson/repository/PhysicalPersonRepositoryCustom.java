@@ -0,0 +1,27 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.repository;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonResponse;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.function.Consumer;
+
+public interface PhysicalPersonRepositoryCustom {
+
+    /**
+     * Página por offset sem a consulta de {@code count}: lê um registro a mais para saber se há próxima página.
+     */
+    Slice<PhysicalPerson> findSlice(Specification<PhysicalPerson> spec, Pageable pageable);
+
+    /**
+     * Percorre todos os registros do filtro com um cursor no servidor, lendo {@code fetchSize} linhas por vez.
+     * Seleciona apenas as colunas da resposta: nenhuma entidade é carregada no contexto de persistência, então a
+     * memória não cresce com o resultado. Deve ser chamado dentro de uma transação, que o cursor exige no PostgreSQL.
+     *
+     * @param spec apenas filtros, sem fetch joins (ver {@link PhysicalPersonSpecifications#filters})
+     */
+    void scrollResponses(Specification<PhysicalPerson> spec, Sort sort, int fetchSize, Consumer<PhysicalPersonResponse> action);
+}
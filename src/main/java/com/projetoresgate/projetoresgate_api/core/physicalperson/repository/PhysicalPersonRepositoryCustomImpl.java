@@ -0,0 +1,98 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.repository;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonResponse;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+class PhysicalPersonRepositoryCustomImpl implements PhysicalPersonRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    PhysicalPersonRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Slice<PhysicalPerson> findSlice(Specification<PhysicalPerson> spec, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PhysicalPerson> criteriaQuery = criteriaBuilder.createQuery(PhysicalPerson.class);
+        Root<PhysicalPerson> root = criteriaQuery.from(PhysicalPerson.class);
+        criteriaQuery.select(root);
+
+        Predicate predicate = spec.toPredicate(root, criteriaQuery, criteriaBuilder);
+        if (predicate != null) {
+            criteriaQuery.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            criteriaQuery.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        }
+
+        TypedQuery<PhysicalPerson> query = entityManager.createQuery(criteriaQuery)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.getResultList(), pageable, false);
+        }
+        query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+        query.setMaxResults(pageable.getPageSize() + 1);
+
+        List<PhysicalPerson> rows = query.getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public void scrollResponses(Specification<PhysicalPerson> spec, Sort sort, int fetchSize, Consumer<PhysicalPersonResponse> action) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PhysicalPersonResponse> criteriaQuery = criteriaBuilder.createQuery(PhysicalPersonResponse.class);
+        Root<PhysicalPerson> root = criteriaQuery.from(PhysicalPerson.class);
+        Join<PhysicalPerson, User> user = root.join("user");
+        criteriaQuery.select(criteriaBuilder.construct(PhysicalPersonResponse.class,
+                root.get("id"),
+                user.get("id"),
+                user.get("name"),
+                user.get("email"),
+                user.get("nickname"),
+                root.get("rg"),
+                root.get("cpf"),
+                root.get("birthDate"),
+                root.get("phone"),
+                root.get("cellphone"),
+                root.get("gender")));
+
+        Predicate predicate = spec.toPredicate(root, criteriaQuery, criteriaBuilder);
+        if (predicate != null) {
+            criteriaQuery.where(predicate);
+        }
+        if (sort.isSorted()) {
+            criteriaQuery.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        }
+
+        TypedQuery<PhysicalPersonResponse> query = entityManager.createQuery(criteriaQuery)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+        try (Stream<PhysicalPersonResponse> rows = query.getResultStream()) {
+            rows.forEach(action);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.repository;
+
+/**
+ * Estratégia usada para o termo de busca livre de pessoas físicas.
+ */
+public enum PhysicalPersonSearchEngine {
+
+    /**
+     * {@code LIKE} sobre nome, apelido, CPF e RG com join em {@code users}. Funciona em qualquer banco (H2).
+     */
+    CRITERIA,
+
+    /**
+     * {@code LIKE} sobre a coluna normalizada {@code search_text}, servida pelo índice GIN de trigramas
+     * do PostgreSQL e sem distinção de acentos.
+     */
+    TRIGRAM
+}
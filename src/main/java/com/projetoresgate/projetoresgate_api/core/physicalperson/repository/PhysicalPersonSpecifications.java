@@ -0,0 +1,175 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.repository;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.PhysicalPersonCursor;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.PhysicalPersonSearchFilter;
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+public final class PhysicalPersonSpecifications {
+
+    /**
+     * Ordem da paginação por cursor, servida pelo índice {@code idx_physical_persons_date_created_id}.
+     */
+    public static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "dateCreated", "id");
+
+    private PhysicalPersonSpecifications() {
+    }
+
+    /**
+     * Filtros da listagem, já carregando o usuário de cada pessoa na mesma consulta.
+     */
+    public static Specification<PhysicalPerson> search(PhysicalPersonSearchFilter query, PhysicalPersonSearchEngine engine) {
+        return fetchUser().and(filters(query, engine));
+    }
+
+    /**
+     * Faz o fetch join de {@code user} nas consultas de entidades, evitando um select por linha ao montar a resposta.
+     * A consulta de {@code count} não carrega entidades e segue sem o fetch.
+     */
+    public static Specification<PhysicalPerson> fetchUser() {
+        return (root, criteriaQuery, criteriaBuilder) -> {
+            if (!isCountQuery(criteriaQuery)) {
+                root.fetch("user", JoinType.INNER);
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Apenas os filtros, sem o fetch join: para consultas que selecionam colunas em vez de entidades.
+     */
+    public static Specification<PhysicalPerson> filters(PhysicalPersonSearchFilter query, PhysicalPersonSearchEngine engine) {
+        return (root, criteriaQuery, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (StringUtils.hasText(query.searchTerm())) {
+                predicates.add(engine == PhysicalPersonSearchEngine.TRIGRAM
+                        ? searchTextPredicate(root, criteriaBuilder, query.searchTerm())
+                        : searchTermPredicate(root, criteriaBuilder, query.searchTerm()));
+            }
+
+            if (query.cpf() != null && query.cpf().getValue() != null) {
+                predicates.add(criteriaBuilder.like(root.get("cpf").get("value"), "%" + query.cpf().getValue() + "%"));
+            }
+
+            if (query.rg() != null && query.rg().getValue() != null) {
+                predicates.add(criteriaBuilder.like(root.get("rg").get("value"), "%" + query.rg().getValue() + "%"));
+            }
+
+            if (StringUtils.hasText(query.cellphone())) {
+                predicates.add(criteriaBuilder.like(root.get("cellphone"), "%" + query.cellphone() + "%"));
+            }
+
+            if (query.gender() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("gender"), query.gender()));
+            }
+
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Registros posteriores ao cursor na ordem {@link #KEYSET_SORT}. O limite redundante em
+     * {@code date_created} permite ao banco iniciar a leitura do índice direto na posição do cursor.
+     */
+    public static Specification<PhysicalPerson> after(PhysicalPersonCursor cursor) {
+        return (root, criteriaQuery, criteriaBuilder) -> {
+            Path<LocalDateTime> dateCreated = root.get("dateCreated");
+            Path<UUID> id = root.get("id");
+            return criteriaBuilder.and(
+                    criteriaBuilder.lessThanOrEqualTo(dateCreated, cursor.dateCreated()),
+                    criteriaBuilder.or(
+                            criteriaBuilder.lessThan(dateCreated, cursor.dateCreated()),
+                            criteriaBuilder.and(
+                                    criteriaBuilder.equal(dateCreated, cursor.dateCreated()),
+                                    criteriaBuilder.lessThan(id, cursor.id()))));
+        };
+    }
+
+    private static Predicate searchTermPredicate(Root<PhysicalPerson> root, CriteriaBuilder criteriaBuilder, String raw) {
+        String textSearch = "%" + raw.toLowerCase() + "%";
+        Join<PhysicalPerson, User> userJoin = userJoin(root);
+
+        List<Predicate> orPredicates = new ArrayList<>();
+        orPredicates.add(criteriaBuilder.like(criteriaBuilder.lower(userJoin.get("name")), textSearch));
+        orPredicates.add(criteriaBuilder.like(criteriaBuilder.lower(userJoin.get("nickname")), textSearch));
+
+        String digits = raw.replaceAll("\\D", "");
+        if (StringUtils.hasText(digits)) {
+            orPredicates.add(criteriaBuilder.like(root.get("cpf").get("value"), "%" + digits + "%"));
+        }
+
+        String alphanumeric = raw.replaceAll("[^a-zA-Z0-9]", "");
+        if (StringUtils.hasText(alphanumeric)) {
+            orPredicates.add(criteriaBuilder.like(criteriaBuilder.upper(root.get("rg").get("value")), "%" + alphanumeric.toUpperCase() + "%"));
+        }
+
+        return criteriaBuilder.or(orPredicates.toArray(new Predicate[0]));
+    }
+
+    // Todas as variações do termo consultam a mesma coluna, permitindo um BitmapOr no índice GIN
+    private static Predicate searchTextPredicate(Root<PhysicalPerson> root, CriteriaBuilder criteriaBuilder, String raw) {
+        String normalized = normalize(raw);
+        Set<String> terms = new LinkedHashSet<>();
+        terms.add(normalized);
+
+        String digits = normalized.replaceAll("\\D", "");
+        if (StringUtils.hasText(digits)) {
+            terms.add(digits);
+        }
+
+        String alphanumeric = normalized.replaceAll("[^a-z0-9]", "");
+        if (StringUtils.hasText(alphanumeric)) {
+            terms.add(alphanumeric);
+        }
+
+        Predicate[] orPredicates = terms.stream()
+                .map(term -> criteriaBuilder.like(root.get("searchText"), "%" + term + "%"))
+                .toArray(Predicate[]::new);
+        return criteriaBuilder.or(orPredicates);
+    }
+
+    // Reaproveita o fetch join ou o join da projeção, quando existirem, para não juntar users duas vezes
+    @SuppressWarnings("unchecked")
+    private static Join<PhysicalPerson, User> userJoin(Root<PhysicalPerson> root) {
+        return root.getFetches().stream()
+                .filter(fetch -> "user".equals(fetch.getAttribute().getName()))
+                .findFirst()
+                .map(fetch -> (Join<PhysicalPerson, User>) fetch)
+                .or(() -> root.getJoins().stream()
+                        .filter(join -> "user".equals(join.getAttribute().getName()))
+                        .findFirst()
+                        .map(join -> (Join<PhysicalPerson, User>) join))
+                .orElseGet(() -> root.join("user"));
+    }
+
+    private static boolean isCountQuery(CriteriaQuery<?> criteriaQuery) {
+        Class<?> resultType = criteriaQuery.getResultType();
+        return resultType == Long.class || resultType == long.class;
+    }
+
+    static String normalize(String value) {
+        return Normalizer.normalize(value, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT);
+    }
+}
@@ -12,6 +12,7 @@ import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository
 import com.projetoresgate.projetoresgate_api.core.user.usecase.CreateUserUseCase;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.command.CreateUserCommand;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.PrincipalCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,13 +22,16 @@ public class CreatePhysicalPersonService implements CreatePhysicalPersonUseCase
     private final PhysicalPersonRepository repository;
     private final UserRepository userRepository;
     private final CreateUserUseCase createUserUseCase;
+    private final PrincipalCache principalCache;
 
     public CreatePhysicalPersonService(PhysicalPersonRepository repository,
                                        UserRepository userRepository,
-                                       CreateUserUseCase createUserUseCase) {
+                                       CreateUserUseCase createUserUseCase,
+                                       PrincipalCache principalCache) {
         this.repository = repository;
         this.userRepository = userRepository;
         this.createUserUseCase = createUserUseCase;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -52,6 +56,7 @@ public class CreatePhysicalPersonService implements CreatePhysicalPersonUseCase
         newUser.addRole(UserRole.PHYSICAL_PERSON);
 
         userRepository.save(newUser);
+        principalCache.invalidate(newUser);
 
         PhysicalPerson person = PhysicalPerson.create(
                 newUser,
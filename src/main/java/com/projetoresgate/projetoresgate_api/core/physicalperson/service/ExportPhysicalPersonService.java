@@ -0,0 +1,37 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.service;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonResponse;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonRepository;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonSearchEngine;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonSpecifications;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.ExportPhysicalPersonUseCase;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.ExportPhysicalPersonQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+@Service
+public class ExportPhysicalPersonService implements ExportPhysicalPersonUseCase {
+
+    private final PhysicalPersonRepository repository;
+    private final PhysicalPersonSearchEngine searchEngine;
+    private final int fetchSize;
+
+    public ExportPhysicalPersonService(PhysicalPersonRepository repository,
+                                       @Value("${api.physical-person.search.engine:CRITERIA}") PhysicalPersonSearchEngine searchEngine,
+                                       @Value("${api.physical-person.export.fetch-size:500}") int fetchSize) {
+        this.repository = repository;
+        this.searchEngine = searchEngine;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void handle(ExportPhysicalPersonQuery query, Consumer<PhysicalPersonResponse> consumer) {
+        // Mesmos filtros da listagem, numa única consulta lida aos poucos em vez de uma consulta por página
+        repository.scrollResponses(PhysicalPersonSpecifications.filters(query, searchEngine),
+                PhysicalPersonSpecifications.KEYSET_SORT, fetchSize, consumer);
+    }
+}
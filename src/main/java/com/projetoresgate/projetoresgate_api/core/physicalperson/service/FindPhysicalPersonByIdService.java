@@ -1,10 +1,11 @@
 package com.projetoresgate.projetoresgate_api.core.physicalperson.service;
 
-import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonResponse;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonRepository;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.FindPhysicalPersonByIdUseCase;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.FindPhysicalPersonByIdQuery;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class FindPhysicalPersonByIdService implements FindPhysicalPersonByIdUseCase {
@@ -16,7 +17,8 @@ public class FindPhysicalPersonByIdService implements FindPhysicalPersonByIdUseC
     }
 
     @Override
-    public PhysicalPerson handle(FindPhysicalPersonByIdQuery query) {
-        return repository.findByIdOrThrow(query.id());
+    @Transactional(readOnly = true)
+    public PhysicalPersonResponse handle(FindPhysicalPersonByIdQuery query) {
+        return PhysicalPersonResponse.fromEntity(repository.findByIdOrThrow(query.id()));
     }
 }
@@ -1,10 +1,11 @@
 package com.projetoresgate.projetoresgate_api.core.physicalperson.service;
 
-import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonResponse;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonRepository;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.FindPhysicalPersonByUserIdUseCase;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.FindPhysicalPersonByUserIdQuery;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class FindPhysicalPersonByUserIdService implements FindPhysicalPersonByUserIdUseCase {
@@ -16,7 +17,8 @@ public class FindPhysicalPersonByUserIdService implements FindPhysicalPersonByUs
     }
 
     @Override
-    public PhysicalPerson handle(FindPhysicalPersonByUserIdQuery query) {
-        return repository.findByUserIdOrThrow(query.userId());
+    @Transactional(readOnly = true)
+    public PhysicalPersonResponse handle(FindPhysicalPersonByUserIdQuery query) {
+        return PhysicalPersonResponse.fromEntity(repository.findByUserIdOrThrow(query.userId()));
     }
 }
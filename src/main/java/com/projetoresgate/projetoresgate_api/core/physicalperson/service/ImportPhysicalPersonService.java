@@ -0,0 +1,310 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.service;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonImportResponse;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonImportResponse.RowError;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.enums.Gender;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Cpf;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Rg;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonBatchWriter;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonRepository;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.ImportPhysicalPersonUseCase;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.command.CreatePhysicalPersonCommand;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.command.ImportPhysicalPersonCommand;
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.core.user.domain.enums.UserRole;
+import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
+import com.projetoresgate.projetoresgate_api.core.user.usecase.RequestEmailConfirmationUseCase;
+import com.projetoresgate.projetoresgate_api.infrastructure.baseentities.TimeOrderedUuidGenerator;
+import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+import com.projetoresgate.projetoresgate_api.infrastructure.utils.CsvReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Importa pessoas físicas de um CSV lido registro a registro.
+ * <p>
+ * As linhas são acumuladas em lotes de {@code chunk-size}: cada lote é validado, conferido contra os CPFs e
+ * e-mails já cadastrados com uma consulta por lote e gravado em lotes JDBC numa transação própria, junto com
+ * os e-mails de confirmação, que ficam no outbox. Se a gravação de um lote falhar, as linhas dele são
+ * regravadas uma a uma para que apenas as problemáticas sejam rejeitadas.
+ */
+@Service
+public class ImportPhysicalPersonService implements ImportPhysicalPersonUseCase {
+
+    private static final String NAME = "name";
+    private static final String EMAIL = "email";
+    private static final String NICKNAME = "nickname";
+    private static final String RG = "rg";
+    private static final String CPF = "cpf";
+    private static final String BIRTH_DATE = "birthdate";
+    private static final String PHONE = "phone";
+    private static final String CELLPHONE = "cellphone";
+    private static final String GENDER = "gender";
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(NAME, EMAIL, CPF);
+    private static final DateTimeFormatter BRAZILIAN_DATE = DateTimeFormatter.ofPattern("dd/MM/uuuu").withResolverStyle(ResolverStyle.STRICT);
+
+    private final PhysicalPersonRepository repository;
+    private final UserRepository userRepository;
+    private final PhysicalPersonBatchWriter batchWriter;
+    private final RequestEmailConfirmationUseCase requestEmailConfirmationUseCase;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Counter importedCounter;
+    private final Counter rejectedCounter;
+
+    public ImportPhysicalPersonService(PhysicalPersonRepository repository,
+                                       UserRepository userRepository,
+                                       PhysicalPersonBatchWriter batchWriter,
+                                       RequestEmailConfirmationUseCase requestEmailConfirmationUseCase,
+                                       Validator validator,
+                                       PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${api.physical-person.import.chunk-size:500}") int chunkSize) {
+        this.repository = repository;
+        this.userRepository = userRepository;
+        this.batchWriter = batchWriter;
+        this.requestEmailConfirmationUseCase = requestEmailConfirmationUseCase;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.importedCounter = rowsCounter(meterRegistry, "imported");
+        this.rejectedCounter = rowsCounter(meterRegistry, "rejected");
+    }
+
+    @Override
+    public PhysicalPersonImportResponse handle(ImportPhysicalPersonCommand command) {
+        Report report = new Report();
+        try (CsvReader reader = new CsvReader(command.content())) {
+            Map<String, Integer> header = readHeader(reader);
+
+            // CPFs e e-mails já vistos no arquivo, para rejeitar repetições entre lotes diferentes
+            Set<String> seenCpfs = new HashSet<>();
+            Set<String> seenEmails = new HashSet<>();
+            List<Row> chunk = new ArrayList<>(chunkSize);
+            try {
+                List<String> values;
+                while ((values = reader.next()) != null) {
+                    report.totalRows++;
+                    Row row = parse(reader.getRecordLine(), values, header);
+                    if (row.error() != null) {
+                        report.reject(row, row.error());
+                    } else if (!seenCpfs.add(row.cpf())) {
+                        report.reject(row, "CPF repetido no arquivo.");
+                    } else if (!seenEmails.add(row.email())) {
+                        report.reject(row, "E-mail repetido no arquivo.");
+                    } else {
+                        chunk.add(row);
+                        if (chunk.size() == chunkSize) {
+                            importChunk(chunk, report);
+                            chunk.clear();
+                        }
+                    }
+                }
+            } catch (InternalException e) {
+                // Registro malformado: o restante do arquivo não pode ser lido com segurança
+                report.totalRows++;
+                report.reject(Row.rejected(reader.getRecordLine(), null, null, e.getMessage()), e.getMessage());
+            }
+            importChunk(chunk, report);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o arquivo de importação.", e);
+        }
+
+        importedCounter.increment(report.importedRows);
+        rejectedCounter.increment(report.rejectedRows);
+        return report.toResponse();
+    }
+
+    private Map<String, Integer> readHeader(CsvReader reader) throws IOException {
+        List<String> columns = reader.next();
+        if (columns == null) {
+            throw new InternalException("O arquivo de importação está vazio.");
+        }
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            header.putIfAbsent(columns.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !header.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new InternalException("Colunas obrigatórias ausentes no cabeçalho: " + String.join(", ", missing) + ".");
+        }
+        return header;
+    }
+
+    private Row parse(long line, List<String> values, Map<String, Integer> header) {
+        String email = value(values, header, EMAIL);
+        String cpf = value(values, header, CPF);
+        try {
+            CreatePhysicalPersonCommand command = new CreatePhysicalPersonCommand(
+                    value(values, header, NAME),
+                    email,
+                    value(values, header, NICKNAME),
+                    value(values, header, RG),
+                    cpf,
+                    parseBirthDate(value(values, header, BIRTH_DATE)),
+                    value(values, header, PHONE),
+                    value(values, header, CELLPHONE),
+                    parseGender(value(values, header, GENDER))
+            );
+            Set<ConstraintViolation<CreatePhysicalPersonCommand>> violations = validator.validate(command);
+            if (!violations.isEmpty()) {
+                return Row.rejected(line, cpf, email, violations.iterator().next().getMessage());
+            }
+
+            User user = User.create(command.email(), null, command.name(), command.nickname());
+            user.setId(TimeOrderedUuidGenerator.next());
+            user.addRole(UserRole.PHYSICAL_PERSON);
+
+            PhysicalPerson person = PhysicalPerson.create(user, new Cpf(command.cpf()), new Rg(command.rg()),
+                    command.birthDate(), command.gender(), command.phone(), command.cellphone());
+            person.setId(TimeOrderedUuidGenerator.next());
+            return new Row(line, person, null);
+        } catch (InternalException e) {
+            return Row.rejected(line, cpf, email, e.getMessage());
+        }
+    }
+
+    private void importChunk(List<Row> chunk, Report report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Set<String> existingCpfs = new HashSet<>(repository.findExistingCpfs(chunk.stream().map(Row::cpf).toList()));
+        Set<String> existingEmails = new HashSet<>(userRepository.findExistingEmails(chunk.stream().map(Row::email).toList()));
+
+        List<Row> accepted = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            if (existingCpfs.contains(row.cpf())) {
+                report.reject(row, "Já existe uma pessoa cadastrada com este CPF.");
+            } else if (existingEmails.contains(row.email())) {
+                report.reject(row, "Este e-mail já está cadastrado.");
+            } else {
+                accepted.add(row);
+            }
+        }
+
+        try {
+            write(accepted);
+            report.importedRows += accepted.size();
+        } catch (DataAccessException e) {
+            // Algum registro conflitou (por exemplo, cadastrado em paralelo): isola as linhas com problema
+            for (Row row : accepted) {
+                try {
+                    write(List.of(row));
+                    report.importedRows++;
+                } catch (DataAccessException rowFailure) {
+                    report.reject(row, "Não foi possível gravar a linha: dados em conflito com um cadastro existente ou acima do tamanho permitido.");
+                }
+            }
+        }
+    }
+
+    private void write(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<PhysicalPerson> persons = rows.stream().map(Row::person).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            batchWriter.insertAll(persons);
+            requestEmailConfirmationUseCase.handleNewUsers(persons.stream().map(PhysicalPerson::getUser).toList());
+        });
+    }
+
+    private static String value(List<String> values, Map<String, Integer> header, String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static LocalDate parseBirthDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return value.indexOf('/') >= 0 ? LocalDate.parse(value, BRAZILIAN_DATE) : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InternalException("Data de nascimento inválida; use dd/MM/aaaa ou aaaa-MM-dd.");
+        }
+    }
+
+    private static Gender parseGender(String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        try {
+            return Gender.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InternalException("Gênero inválido; use MALE, FEMALE ou OTHER.");
+        }
+    }
+
+    private static Counter rowsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("physical-person.import.rows")
+                .description("Linhas processadas pela importação de pessoas físicas")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Row(long line, PhysicalPerson person, String error, String rawCpf, String rawEmail) {
+
+        Row(long line, PhysicalPerson person, String error) {
+            this(line, person, error, null, null);
+        }
+
+        static Row rejected(long line, String cpf, String email, String error) {
+            return new Row(line, null, error, cpf, email);
+        }
+
+        String cpf() {
+            return person != null ? person.getCpf().getValue() : rawCpf;
+        }
+
+        String email() {
+            return person != null ? person.getUser().getEmail() : rawEmail;
+        }
+    }
+
+    private static final class Report {
+
+        private final List<RowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedRows;
+        private long rejectedRows;
+
+        void reject(Row row, String message) {
+            rejectedRows++;
+            errors.add(new RowError(row.line(), row.cpf(), row.email(), message));
+        }
+
+        PhysicalPersonImportResponse toResponse() {
+            return new PhysicalPersonImportResponse(totalRows, importedRows, rejectedRows, errors);
+        }
+    }
+}
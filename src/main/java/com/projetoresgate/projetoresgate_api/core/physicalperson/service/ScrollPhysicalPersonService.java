@@ -0,0 +1,49 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.service;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonRepository;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonSearchEngine;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonSpecifications;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.ScrollPhysicalPersonUseCase;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.ScrollPhysicalPersonQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public class ScrollPhysicalPersonService implements ScrollPhysicalPersonUseCase {
+
+    private final PhysicalPersonRepository repository;
+    private final PhysicalPersonSearchEngine searchEngine;
+
+    public ScrollPhysicalPersonService(PhysicalPersonRepository repository,
+                                       @Value("${api.physical-person.search.engine:CRITERIA}") PhysicalPersonSearchEngine searchEngine) {
+        this.repository = repository;
+        this.searchEngine = searchEngine;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<PhysicalPerson> handle(ScrollPhysicalPersonQuery query) {
+        Specification<PhysicalPerson> spec = PhysicalPersonSpecifications.search(query, searchEngine);
+        if (query.after() != null) {
+            spec = spec.and(PhysicalPersonSpecifications.after(query.after()));
+        }
+
+        // Busca um registro a mais apenas para saber se existe próxima página, sem count
+        List<PhysicalPerson> rows = repository.findBy(spec, fluentQuery -> fluentQuery
+                .sortBy(PhysicalPersonSpecifications.KEYSET_SORT)
+                .limit(query.size() + 1)
+                .all());
+
+        boolean hasNext = rows.size() > query.size();
+        List<PhysicalPerson> content = hasNext ? rows.subList(0, query.size()) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, query.size(), PhysicalPersonSpecifications.KEYSET_SORT), hasNext);
+    }
+}
@@ -5,6 +5,8 @@ import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.Phys
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.SoftDeletePhysicalPersonUseCase;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.command.SoftDeletePhysicalPersonCommand;
 import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
+import com.projetoresgate.projetoresgate_api.infrastructure.cache.CacheInvalidationPublisher;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.PrincipalCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,10 +15,17 @@ public class SoftDeletePhysicalPersonService implements SoftDeletePhysicalPerson
 
     private final PhysicalPersonRepository physicalPersonRepository;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
 
-    public SoftDeletePhysicalPersonService(PhysicalPersonRepository physicalPersonRepository, UserRepository userRepository) {
+    public SoftDeletePhysicalPersonService(PhysicalPersonRepository physicalPersonRepository,
+                                           UserRepository userRepository,
+                                           PrincipalCache principalCache,
+                                           CacheInvalidationPublisher invalidationPublisher) {
         this.physicalPersonRepository = physicalPersonRepository;
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.invalidationPublisher = invalidationPublisher;
     }
 
     @Override
@@ -25,5 +34,7 @@ public class SoftDeletePhysicalPersonService implements SoftDeletePhysicalPerson
         PhysicalPerson person = physicalPersonRepository.findByIdOrThrow(command.id());
         userRepository.delete(person.getUser());
         physicalPersonRepository.delete(person);
+        principalCache.invalidate(person.getUser());
+        invalidationPublisher.physicalPersonChanged(person.getId());
     }
 }
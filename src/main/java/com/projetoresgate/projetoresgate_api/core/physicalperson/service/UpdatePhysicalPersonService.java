@@ -7,7 +7,9 @@ import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.Phys
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.UpdatePhysicalPersonUseCase;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.command.UpdatePhysicalPersonCommand;
 import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.infrastructure.cache.CacheInvalidationPublisher;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.PrincipalCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -18,9 +20,15 @@ import static java.util.Objects.nonNull;
 public class UpdatePhysicalPersonService implements UpdatePhysicalPersonUseCase {
 
     private final PhysicalPersonRepository repository;
+    private final PrincipalCache principalCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
 
-    public UpdatePhysicalPersonService(PhysicalPersonRepository repository) {
+    public UpdatePhysicalPersonService(PhysicalPersonRepository repository,
+                                       PrincipalCache principalCache,
+                                       CacheInvalidationPublisher invalidationPublisher) {
         this.repository = repository;
+        this.principalCache = principalCache;
+        this.invalidationPublisher = invalidationPublisher;
     }
 
     @Override
@@ -59,6 +67,7 @@ public class UpdatePhysicalPersonService implements UpdatePhysicalPersonUseCase
         }
 
         person.validate();
+        invalidationPublisher.physicalPersonChanged(person.getId());
         return repository.save(person);
     }
 
@@ -69,5 +78,6 @@ public class UpdatePhysicalPersonService implements UpdatePhysicalPersonUseCase
         String nickname = command.nickname() != null ? command.nickname() : user.getNickname();
 
         user.updateInfo(name, nickname);
+        principalCache.invalidate(user);
     }
 }
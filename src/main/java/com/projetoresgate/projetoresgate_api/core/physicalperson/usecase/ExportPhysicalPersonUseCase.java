@@ -0,0 +1,14 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.usecase;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonResponse;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.ExportPhysicalPersonQuery;
+
+import java.util.function.Consumer;
+
+public interface ExportPhysicalPersonUseCase {
+
+    /**
+     * Entrega ao {@code consumer}, uma a uma e sem acumular, todas as pessoas que atendem aos filtros.
+     */
+    void handle(ExportPhysicalPersonQuery query, Consumer<PhysicalPersonResponse> consumer);
+}
@@ -1,8 +1,8 @@
 package com.projetoresgate.projetoresgate_api.core.physicalperson.usecase;
 
-import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonResponse;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.FindPhysicalPersonByUserIdQuery;
 
 public interface FindPhysicalPersonByUserIdUseCase {
-    PhysicalPerson handle(FindPhysicalPersonByUserIdQuery query);
+    PhysicalPersonResponse handle(FindPhysicalPersonByUserIdQuery query);
 }
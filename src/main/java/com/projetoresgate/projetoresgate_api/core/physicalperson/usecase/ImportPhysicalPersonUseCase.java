@@ -0,0 +1,8 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.usecase;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonImportResponse;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.command.ImportPhysicalPersonCommand;
+
+public interface ImportPhysicalPersonUseCase {
+    PhysicalPersonImportResponse handle(ImportPhysicalPersonCommand command);
+}
@@ -0,0 +1,9 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.usecase;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.ScrollPhysicalPersonQuery;
+import org.springframework.data.domain.Slice;
+
+public interface ScrollPhysicalPersonUseCase {
+    Slice<PhysicalPerson> handle(ScrollPhysicalPersonQuery query);
+}
@@ -1,9 +1,9 @@
 package com.projetoresgate.projetoresgate_api.core.physicalperson.usecase;
 
-import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonResponse;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.SearchPhysicalPersonQuery;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public interface SearchPhysicalPersonUseCase {
-    Page<PhysicalPerson> handle(SearchPhysicalPersonQuery query);
+    Slice<PhysicalPersonResponse> handle(SearchPhysicalPersonQuery query);
 }
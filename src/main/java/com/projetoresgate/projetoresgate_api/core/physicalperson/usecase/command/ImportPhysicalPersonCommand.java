@@ -0,0 +1,8 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.command;
+
+import java.io.Reader;
+
+/**
+ * Planilha CSV com uma pessoa física por linha, lida à medida que é processada.
+ */
+public record ImportPhysicalPersonCommand(Reader content) {}
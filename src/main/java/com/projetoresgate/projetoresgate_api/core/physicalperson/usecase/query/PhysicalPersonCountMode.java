@@ -0,0 +1,39 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query;
+
+import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+/**
+ * Como o total de registros é calculado na listagem paginada.
+ */
+public enum PhysicalPersonCountMode {
+
+    /**
+     * {@code count} completo a cada página.
+     */
+    EXACT,
+
+    /**
+     * Total em cache por alguns segundos para a mesma combinação de filtros.
+     */
+    APPROX,
+
+    /**
+     * Sem total: retorna apenas se existe próxima página.
+     */
+    NONE;
+
+    public static PhysicalPersonCountMode fromParameter(String value) {
+        if (!StringUtils.hasText(value)) {
+            return EXACT;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "exact", "true" -> EXACT;
+            case "approx" -> APPROX;
+            case "false" -> NONE;
+            default -> throw new InternalException("Valor inválido para withCount. Use false, approx ou exact.");
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
+import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição da paginação por cursor: o último registro entregue, na ordem {@code (date_created, id)} decrescente.
+ * Trafega como texto opaco em Base64 URL-safe.
+ */
+public record PhysicalPersonCursor(LocalDateTime dateCreated, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static PhysicalPersonCursor of(PhysicalPerson person) {
+        return new PhysicalPersonCursor(person.getDateCreated(), person.getId());
+    }
+
+    public static PhysicalPersonCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InternalException("Cursor de paginação inválido.");
+            }
+            return new PhysicalPersonCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InternalException("Cursor de paginação inválido.");
+        }
+    }
+
+    public String encode() {
+        String raw = dateCreated.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,21 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.enums.Gender;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Cpf;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Rg;
+
+/**
+ * Filtros comuns às consultas paginadas de pessoas físicas.
+ */
+public interface PhysicalPersonSearchFilter {
+
+    String searchTerm();
+
+    Rg rg();
+
+    Cpf cpf();
+
+    String cellphone();
+
+    Gender gender();
+}
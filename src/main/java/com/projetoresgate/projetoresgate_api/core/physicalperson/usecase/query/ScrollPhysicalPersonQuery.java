@@ -0,0 +1,16 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.enums.Gender;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Cpf;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Rg;
+
+public record ScrollPhysicalPersonQuery(
+        String searchTerm,
+        Rg rg,
+        Cpf cpf,
+        String cellphone,
+        Gender gender,
+        PhysicalPersonCursor after,
+        int size
+) implements PhysicalPersonSearchFilter {
+}
@@ -11,6 +11,7 @@ public record SearchPhysicalPersonQuery(
         Cpf cpf,
         String cellphone,
         Gender gender,
-        Pageable pageable
-) {
+        Pageable pageable,
+        PhysicalPersonCountMode countMode
+) implements PhysicalPersonSearchFilter {
 }
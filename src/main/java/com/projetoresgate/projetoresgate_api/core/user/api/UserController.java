@@ -2,16 +2,17 @@ package com.projetoresgate.projetoresgate_api.core.user.api;
 
 import com.projetoresgate.projetoresgate_api.core.user.api.dto.AuthenticationResponse;
 import com.projetoresgate.projetoresgate_api.core.user.api.dto.UserResponse;
-import com.projetoresgate.projetoresgate_api.core.user.domain.User;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.*;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.command.*;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.query.AuthenticateUserQuery;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.query.FindUserByIdQuery;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.ClientAddressResolver;
 import com.projetoresgate.projetoresgate_api.infrastructure.security.UserDetailsImpl;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -36,6 +37,8 @@ public class UserController {
     private final ResetPasswordUseCase resetPasswordUseCase;
     private final RequestEmailConfirmationUseCase requestEmailConfirmationUseCase;
     private final ConfirmEmailUseCase confirmEmailUseCase;
+    private final RefreshAccessTokenUseCase refreshAccessTokenUseCase;
+    private final ClientAddressResolver clientAddressResolver;
 
     @Autowired
     public UserController(CreateUserUseCase createUserUseCase,
@@ -46,7 +49,9 @@ public class UserController {
                           RequestPasswordResetUseCase requestPasswordResetUseCase,
                           ResetPasswordUseCase resetPasswordUseCase,
                           RequestEmailConfirmationUseCase requestEmailConfirmationUseCase,
-                          ConfirmEmailUseCase confirmEmailUseCase) {
+                          ConfirmEmailUseCase confirmEmailUseCase,
+                          RefreshAccessTokenUseCase refreshAccessTokenUseCase,
+                          ClientAddressResolver clientAddressResolver) {
         this.createUserUseCase = createUserUseCase;
         this.updateUserUseCase = updateUserUseCase;
         this.authenticateUserUseCase = authenticateUserUseCase;
@@ -56,19 +61,32 @@ public class UserController {
         this.resetPasswordUseCase = resetPasswordUseCase;
         this.requestEmailConfirmationUseCase = requestEmailConfirmationUseCase;
         this.confirmEmailUseCase = confirmEmailUseCase;
+        this.refreshAccessTokenUseCase = refreshAccessTokenUseCase;
+        this.clientAddressResolver = clientAddressResolver;
     }
 
     @PostMapping("/login")
     @Operation(summary = "Autenticar usuário", description = "Realiza o login do usuário e retorna um token JWT.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Login realizado com sucesso"),
-            @ApiResponse(responseCode = "401", description = "Credenciais inválidas")
+            @ApiResponse(responseCode = "401", description = "Credenciais inválidas"),
+            @ApiResponse(responseCode = "429", description = "Muitas tentativas de login")
     })
-    public ResponseEntity<AuthenticationResponse> login(@RequestBody @Valid AuthenticateUserQuery query) {
-        AuthenticationResponse response = authenticateUserUseCase.handle(query);
+    public ResponseEntity<AuthenticationResponse> login(@RequestBody @Valid AuthenticateUserQuery query, HttpServletRequest request) {
+        AuthenticationResponse response = authenticateUserUseCase.handle(query.withRemoteAddress(clientAddressResolver.resolve(request)));
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/token/refresh")
+    @Operation(summary = "Renovar token", description = "Troca o refresh token por um novo par de tokens, sem reenviar a senha.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tokens renovados com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Refresh token inválido, expirado ou reutilizado")
+    })
+    public ResponseEntity<AuthenticationResponse> refreshToken(@RequestBody @Valid RefreshTokenCommand command) {
+        return ResponseEntity.ok(refreshAccessTokenUseCase.handle(command));
+    }
+
     @PostMapping("/forgot-password")
     @Operation(summary = "Solicitar redefinição de senha", description = "Envia um e-mail com o link para redefinição de senha.")
     @ApiResponses(value = {
@@ -119,8 +137,7 @@ public class UserController {
             @ApiResponse(responseCode = "404", description = "Usuário não encontrado")
     })
     public ResponseEntity<UserResponse> findUser(@PathVariable UUID id) {
-        User user = findUserUseCase.handle(new FindUserByIdQuery(id));
-        return ResponseEntity.ok(UserResponse.fromEntity(user));
+        return ResponseEntity.ok(findUserUseCase.handle(new FindUserByIdQuery(id)));
     }
 
     @Deprecated
@@ -1,15 +1,28 @@
 package com.projetoresgate.projetoresgate_api.core.user.api.dto;
 
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
 import com.projetoresgate.projetoresgate_api.core.user.domain.enums.UserRole;
 
 import java.util.Set;
 
 public record AuthenticationResponse(
         String accessToken,
+        String refreshToken,
         String userId,
         String name,
         String email,
         Set<UserRole> roles,
         boolean isEmailVerified
 ) {
+    public static AuthenticationResponse fromUser(User user, String accessToken, String refreshToken) {
+        return new AuthenticationResponse(
+                accessToken,
+                refreshToken,
+                user.getId().toString(),
+                user.getName(),
+                user.getEmail(),
+                user.getRoles(),
+                user.isEmailVerified()
+        );
+    }
 }
@@ -1,6 +1,8 @@
 package com.projetoresgate.projetoresgate_api.core.user.domain;
 
+import com.projetoresgate.projetoresgate_api.infrastructure.baseentities.TimeOrderedUuidGenerator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -10,7 +12,7 @@ import java.util.UUID;
 public class PasswordResetToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
     private UUID id;
 
     @Column(nullable = false, unique = true, name = "token_hash")
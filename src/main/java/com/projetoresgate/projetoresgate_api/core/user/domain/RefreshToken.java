@@ -0,0 +1,91 @@
+package com.projetoresgate.projetoresgate_api.core.user.domain;
+
+import com.projetoresgate.projetoresgate_api.infrastructure.baseentities.TimeOrderedUuidGenerator;
+import jakarta.persistence.*;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Refresh token guardado apenas pelo hash. Todos os tokens obtidos por renovações sucessivas a partir
+ * do mesmo login compartilham o {@code familyId}; um token já rotacionado que volte a ser apresentado
+ * indica vazamento e revoga a família inteira.
+ */
+@Entity
+@Table(name = "refresh_tokens")
+public class RefreshToken {
+
+    @Id
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
+    private UUID id;
+
+    @Column(nullable = false, unique = true, name = "token_hash")
+    private String tokenHash;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(nullable = false, name = "user_id")
+    private User user;
+
+    @Column(nullable = false, name = "family_id")
+    private UUID familyId;
+
+    @Column(nullable = false, name = "token_version")
+    private int tokenVersion;
+
+    @Column(nullable = false, name = "expiry_date")
+    private LocalDateTime expiryDate;
+
+    @Column(nullable = false, name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    public RefreshToken() {}
+
+    public RefreshToken(String tokenHash, User user, UUID familyId, LocalDateTime expiryDate) {
+        this.tokenHash = tokenHash;
+        this.user = user;
+        this.familyId = familyId;
+        this.tokenVersion = user.getTokenVersion();
+        this.expiryDate = expiryDate;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public UUID getFamilyId() {
+        return familyId;
+    }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public LocalDateTime getExpiryDate() {
+        return expiryDate;
+    }
+
+    public LocalDateTime getRevokedAt() {
+        return revokedAt;
+    }
+
+    public boolean isExpired() {
+        return LocalDateTime.now().isAfter(expiryDate);
+    }
+
+    public boolean isRevoked() {
+        return revokedAt != null;
+    }
+}
@@ -2,8 +2,11 @@ package com.projetoresgate.projetoresgate_api.core.user.domain;
 
 import com.projetoresgate.projetoresgate_api.core.user.domain.enums.UserRole;
 import com.projetoresgate.projetoresgate_api.infrastructure.baseentities.BaseModel;
+import com.projetoresgate.projetoresgate_api.infrastructure.config.CacheRegions;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 import org.springframework.util.StringUtils;
@@ -14,11 +17,13 @@ import java.util.Set;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USERS)
 @SQLDelete(sql = "UPDATE users SET deleted_at = now() WHERE id = ?")
 @Where(clause = "deleted_at is null")
 public class User extends BaseModel {
 
-    @Column(name = "email", nullable = false, unique = true)
+    @Column(name = "email", nullable = false)
     private String email;
 
     @Column(name = "password")
@@ -34,11 +39,15 @@ public class User extends BaseModel {
     @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
     @Enumerated(EnumType.STRING)
     @Column(name = "role")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USER_ROLES)
     private Set<UserRole> roles = new HashSet<>();
 
     @Column(name = "is_email_verified", nullable = false)
     private boolean isEmailVerified = false;
 
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion = 0;
+
     private User(String email, String encodedPassword, String name, String nickname) {
         this.email = email;
         this.password = encodedPassword;
@@ -68,6 +77,21 @@ public class User extends BaseModel {
         }
         this.password = newEncodedPassword;
         validate();
+        revokeTokens();
+    }
+
+    /**
+     * Substitui o hash da mesma senha por um com custo atualizado, sem revogar os tokens emitidos.
+     */
+    public void upgradePasswordHash(String newEncodedPassword) {
+        if (!StringUtils.hasText(newEncodedPassword)) {
+            throw new InternalException("A senha não pode ser vazia.");
+        }
+        this.password = newEncodedPassword;
+    }
+
+    public void revokeTokens() {
+        this.tokenVersion++;
     }
 
     public void confirmEmail() {
@@ -123,7 +147,9 @@ public class User extends BaseModel {
     }
 
     public void addRole(UserRole role) {
-        this.roles.add(role);
+        if (this.roles.add(role)) {
+            revokeTokens();
+        }
     }
 
     public boolean isEmailVerified() {
@@ -134,6 +160,10 @@ public class User extends BaseModel {
         this.isEmailVerified = isEmailVerified;
     }
 
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
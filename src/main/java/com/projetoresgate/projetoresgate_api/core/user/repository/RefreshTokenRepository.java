@@ -0,0 +1,29 @@
+package com.projetoresgate.projetoresgate_api.core.user.repository;
+
+import com.projetoresgate.projetoresgate_api.core.user.domain.RefreshToken;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
+
+    @EntityGraph(attributePaths = "user")
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Revoga o token apenas se ele ainda estiver ativo: entre duas renovações concorrentes com o mesmo token,
+     * somente uma recebe 1 e a outra é tratada como reuso.
+     */
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = ?2 where t.id = ?1 and t.revokedAt is null")
+    int revokeIfActive(UUID id, LocalDateTime revokedAt);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = ?2 where t.familyId = ?1 and t.revokedAt is null")
+    int revokeFamily(UUID familyId, LocalDateTime revokedAt);
+}
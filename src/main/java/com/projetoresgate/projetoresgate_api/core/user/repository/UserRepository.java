@@ -1,17 +1,36 @@
 package com.projetoresgate.projetoresgate_api.core.user.repository;
 
 import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.infrastructure.config.CacheRegions;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.ResourceNotFoundException;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
+
+    // Login, UserDetailsService e PrincipalCache: o resultado fica no cache de consultas e o usuário no de entidades
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.USERS_BY_EMAIL)
+    })
     Optional<User> findByEmail(String email);
 
+    @Query("select u.tokenVersion from User u where u.id = ?1")
+    Optional<Integer> findTokenVersionById(UUID id);
+
+    @Query("select u.email from User u where u.email in ?1")
+    List<String> findExistingEmails(Collection<String> emails);
+
     default User findByIdOrThrow(UUID id) {
         return findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + id));
@@ -5,6 +5,8 @@ import com.projetoresgate.projetoresgate_api.core.user.domain.User;
 import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.AuthenticateUserUseCase;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.query.AuthenticateUserQuery;
+import com.projetoresgate.projetoresgate_api.infrastructure.exception.TooManyRequestsException;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.LoginAttemptLimiter;
 import com.projetoresgate.projetoresgate_api.infrastructure.services.TokenService;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -18,31 +20,47 @@ public class AuthenticateUserService implements AuthenticateUserUseCase {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenService tokenService;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final RefreshTokenService refreshTokenService;
 
-    public AuthenticateUserService(UserRepository userRepository, PasswordEncoder passwordEncoder, TokenService tokenService) {
+    public AuthenticateUserService(UserRepository userRepository, PasswordEncoder passwordEncoder, TokenService tokenService,
+                                   LoginAttemptLimiter loginAttemptLimiter, RefreshTokenService refreshTokenService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.tokenService = tokenService;
+        this.loginAttemptLimiter = loginAttemptLimiter;
+        this.refreshTokenService = refreshTokenService;
     }
 
     @Override
     public AuthenticationResponse handle(AuthenticateUserQuery query) {
+        loginAttemptLimiter.acquire(query.email(), query.remoteAddress());
+
         User user = userRepository.findByEmail(query.email())
                 .orElse(null);
 
         if (isNull(user) || !passwordEncoder.matches(query.password(), user.getPassword())) {
+            loginAttemptLimiter.recordFailure(query.email());
             throw new BadCredentialsException("Authentication failed");
         }
+        loginAttemptLimiter.recordSuccess(query.email());
+
+        upgradePasswordHashIfNeeded(user, query.password());
+
+        String token = tokenService.generateToken(user);
 
-        String token = tokenService.generateToken(user.getEmail());
+        return AuthenticationResponse.fromUser(user, token, refreshTokenService.issue(user));
+    }
 
-        return new AuthenticationResponse(
-                token,
-                user.getId().toString(),
-                user.getName(),
-                user.getEmail(),
-                user.getRoles(),
-                user.isEmailVerified()
-        );
+    private void upgradePasswordHashIfNeeded(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            user.upgradePasswordHash(passwordEncoder.encode(rawPassword));
+            userRepository.save(user);
+        } catch (TooManyRequestsException e) {
+            // Pool de hash saturado: o login segue e a atualização fica para o próximo acesso
+        }
     }
 }
@@ -7,7 +7,11 @@ import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository
 import com.projetoresgate.projetoresgate_api.core.user.usecase.ConfirmEmailUseCase;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.command.ConfirmEmailCommand;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.PrincipalCache;
+import com.projetoresgate.projetoresgate_api.infrastructure.services.ActionTokenMode;
+import com.projetoresgate.projetoresgate_api.infrastructure.services.SignedActionTokenService;
 import com.projetoresgate.projetoresgate_api.infrastructure.utils.TokenUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,17 +20,33 @@ public class ConfirmEmailService implements ConfirmEmailUseCase {
 
     private final EmailConfirmationTokenRepository emailConfirmationTokenRepository;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final SignedActionTokenService signedActionTokenService;
+    private final ActionTokenMode tokenMode;
 
     public ConfirmEmailService(EmailConfirmationTokenRepository emailConfirmationTokenRepository,
-                               UserRepository userRepository) {
+                               UserRepository userRepository,
+                               PrincipalCache principalCache,
+                               SignedActionTokenService signedActionTokenService,
+                               @Value("${api.security.action-token.mode:DATABASE}") ActionTokenMode tokenMode) {
         this.emailConfirmationTokenRepository = emailConfirmationTokenRepository;
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.signedActionTokenService = signedActionTokenService;
+        this.tokenMode = tokenMode;
     }
 
     @Override
     @Transactional
     public void handle(ConfirmEmailCommand command) {
-        String tokenHash = TokenUtils.hashToken(command.token());
+        switch (tokenMode) {
+            case SIGNED -> confirmWithSignedToken(command.token());
+            case DATABASE -> confirmWithStoredToken(command.token());
+        }
+    }
+
+    private void confirmWithStoredToken(String token) {
+        String tokenHash = TokenUtils.hashToken(token);
         EmailConfirmationToken confirmationToken = emailConfirmationTokenRepository.findByTokenHash(tokenHash)
                 .orElseThrow(() -> new InternalException("Token inválido ou não encontrado."));
 
@@ -38,10 +58,35 @@ public class ConfirmEmailService implements ConfirmEmailUseCase {
         if (user.isEmailVerified()) {
             return;
         }
-        
-        user.confirmEmail();
-        userRepository.save(user);
+
+        confirm(user);
 
         emailConfirmationTokenRepository.delete(confirmationToken);
     }
+
+    // Depois da confirmação a impressão digital do token deixa de corresponder: nada a remover no banco
+    private void confirmWithSignedToken(String token) {
+        SignedActionTokenService.Claims claims = signedActionTokenService.verify(token, SignedActionTokenService.Purpose.EMAIL_CONFIRMATION);
+        if (claims.isExpired()) {
+            throw new InternalException("O token expirou. Solicite um novo.");
+        }
+
+        User user = userRepository.findById(claims.userId())
+                .orElseThrow(() -> new InternalException("Token inválido ou não encontrado."));
+        // Como no modo DATABASE, repetir a confirmação de um e-mail já verificado não é erro
+        if (user.isEmailVerified()) {
+            return;
+        }
+        if (!signedActionTokenService.isCurrent(claims, user)) {
+            throw new InternalException("Token inválido ou não encontrado.");
+        }
+
+        confirm(user);
+    }
+
+    private void confirm(User user) {
+        user.confirmEmail();
+        userRepository.save(user);
+        principalCache.invalidate(user);
+    }
 }
@@ -5,6 +5,7 @@ import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository
 import com.projetoresgate.projetoresgate_api.core.user.usecase.CreateUserUseCase;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.RequestEmailConfirmationUseCase;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.command.CreateUserCommand;
+import com.projetoresgate.projetoresgate_api.infrastructure.cache.CacheInvalidationPublisher;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -16,11 +17,14 @@ public class CreateUserService implements CreateUserUseCase {
     private final UserRepository repository;
     private final PasswordEncoder passwordEncoder;
     private final RequestEmailConfirmationUseCase requestEmailConfirmationUseCase;
+    private final CacheInvalidationPublisher invalidationPublisher;
 
-    public CreateUserService(UserRepository repository, PasswordEncoder passwordEncoder, RequestEmailConfirmationUseCase requestEmailConfirmationUseCase) {
+    public CreateUserService(UserRepository repository, PasswordEncoder passwordEncoder, RequestEmailConfirmationUseCase requestEmailConfirmationUseCase,
+                             CacheInvalidationPublisher invalidationPublisher) {
         this.repository = repository;
         this.passwordEncoder = passwordEncoder;
         this.requestEmailConfirmationUseCase = requestEmailConfirmationUseCase;
+        this.invalidationPublisher = invalidationPublisher;
     }
 
     public User handle(CreateUserCommand cmd) {
@@ -44,6 +48,8 @@ public class CreateUserService implements CreateUserUseCase {
         );
 
         newUser = repository.save(newUser);
+        // As outras réplicas podem ter em cache a busca por este e-mail sem resultado
+        invalidationPublisher.userChanged(newUser.getId(), newUser.getEmail());
 
         requestEmailConfirmationUseCase.handle(newUser.getEmail());
 
@@ -1,11 +1,13 @@
 package com.projetoresgate.projetoresgate_api.core.user.service;
 
+import com.projetoresgate.projetoresgate_api.core.user.api.dto.UserResponse;
 import com.projetoresgate.projetoresgate_api.core.user.domain.User;
 import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.FindUserUseCase;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.query.FindUserByIdQuery;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.ResourceNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -19,11 +21,12 @@ public class FindUserService implements FindUserUseCase {
     }
 
     @Override
-    public User handle(FindUserByIdQuery query) {
+    @Transactional(readOnly = true)
+    public UserResponse handle(FindUserByIdQuery query) {
         Optional<User> optionalUser = repository.findById(query.id());
         if (optionalUser.isEmpty()) {
             throw new ResourceNotFoundException("Usuário não encontrado.");
         }
-        return optionalUser.get();
+        return UserResponse.fromEntity(optionalUser.get());
     }
 }
@@ -0,0 +1,25 @@
+package com.projetoresgate.projetoresgate_api.core.user.service;
+
+import com.projetoresgate.projetoresgate_api.core.user.api.dto.AuthenticationResponse;
+import com.projetoresgate.projetoresgate_api.core.user.usecase.RefreshAccessTokenUseCase;
+import com.projetoresgate.projetoresgate_api.core.user.usecase.command.RefreshTokenCommand;
+import com.projetoresgate.projetoresgate_api.infrastructure.services.TokenService;
+import org.springframework.stereotype.Service;
+
+@Service
+public class RefreshAccessTokenService implements RefreshAccessTokenUseCase {
+
+    private final RefreshTokenService refreshTokenService;
+    private final TokenService tokenService;
+
+    public RefreshAccessTokenService(RefreshTokenService refreshTokenService, TokenService tokenService) {
+        this.refreshTokenService = refreshTokenService;
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    public AuthenticationResponse handle(RefreshTokenCommand command) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(command.refreshToken());
+        return AuthenticationResponse.fromUser(rotation.user(), tokenService.generateToken(rotation.user()), rotation.refreshToken());
+    }
+}
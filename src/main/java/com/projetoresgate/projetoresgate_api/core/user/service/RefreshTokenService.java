@@ -0,0 +1,96 @@
+package com.projetoresgate.projetoresgate_api.core.user.service;
+
+import com.projetoresgate.projetoresgate_api.core.user.domain.RefreshToken;
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.core.user.repository.RefreshTokenRepository;
+import com.projetoresgate.projetoresgate_api.infrastructure.utils.TokenUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Emite e rotaciona refresh tokens. A renovação é uma busca pelo hash (índice único) seguida de dois
+ * comandos curtos, sem nenhum cálculo de BCrypt.
+ */
+@Service
+public class RefreshTokenService {
+
+    public record Rotation(User user, String refreshToken) {
+    }
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration ttl;
+    private final Counter rotatedCounter;
+    private final Counter rejectedCounter;
+    private final Counter reusedCounter;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${api.security.token.refresh-ttl:30d}") Duration ttl) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.ttl = ttl;
+        this.rotatedCounter = renewalCounter(meterRegistry, "rotated");
+        this.rejectedCounter = renewalCounter(meterRegistry, "rejected");
+        this.reusedCounter = renewalCounter(meterRegistry, "reused");
+    }
+
+    /**
+     * Emite o primeiro refresh token de uma nova família (um por login).
+     */
+    @Transactional
+    public String issue(User user) {
+        return store(user, UUID.randomUUID());
+    }
+
+    /**
+     * Troca o refresh token por um novo da mesma família. Um token já rotacionado revoga a família inteira;
+     * a revogação é mantida mesmo com a exceção lançada.
+     */
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public Rotation rotate(String token) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(TokenUtils.hashToken(token))
+                .orElseThrow(this::rejected);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (current.isRevoked() || refreshTokenRepository.revokeIfActive(current.getId(), now) == 0) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            reusedCounter.increment();
+            throw new BadCredentialsException("Refresh token reutilizado");
+        }
+
+        User user = current.getUser();
+        // Troca de senha e novo papel incrementam a versão do usuário: a sessão não pode mais ser renovada
+        if (current.isExpired() || user == null || user.getDeletedAt() != null || user.getTokenVersion() != current.getTokenVersion()) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            throw rejected();
+        }
+
+        rotatedCounter.increment();
+        return new Rotation(user, store(user, current.getFamilyId()));
+    }
+
+    private String store(User user, UUID familyId) {
+        String plainTextToken = TokenUtils.generateSecureToken();
+        refreshTokenRepository.save(new RefreshToken(TokenUtils.hashToken(plainTextToken), user, familyId, LocalDateTime.now().plus(ttl)));
+        return plainTextToken;
+    }
+
+    private BadCredentialsException rejected() {
+        rejectedCounter.increment();
+        return new BadCredentialsException("Refresh token inválido");
+    }
+
+    private static Counter renewalCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("security.tokens.refresh")
+                .description("Renovações de sessão por refresh token")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -5,27 +5,48 @@ import com.projetoresgate.projetoresgate_api.core.user.domain.User;
 import com.projetoresgate.projetoresgate_api.core.user.repository.EmailConfirmationTokenRepository;
 import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.RequestEmailConfirmationUseCase;
+import com.projetoresgate.projetoresgate_api.infrastructure.email.EmailOutboxMessage;
+import com.projetoresgate.projetoresgate_api.infrastructure.email.EmailTemplateEngine;
 import com.projetoresgate.projetoresgate_api.infrastructure.email.JavaMailEmailService;
+import com.projetoresgate.projetoresgate_api.infrastructure.services.ActionTokenMode;
+import com.projetoresgate.projetoresgate_api.infrastructure.services.SignedActionTokenService;
 import com.projetoresgate.projetoresgate_api.infrastructure.utils.TokenUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class RequestEmailConfirmationService implements RequestEmailConfirmationUseCase {
 
+    private static final Duration TOKEN_TTL = Duration.ofHours(24);
+    private static final String SUBJECT = "Confirme seu E-mail - Projeto Resgate";
+
     private final UserRepository userRepository;
     private final EmailConfirmationTokenRepository emailConfirmationTokenRepository;
     private final JavaMailEmailService javaMailEmailService;
+    private final EmailTemplateEngine emailTemplateEngine;
+    private final SignedActionTokenService signedActionTokenService;
+    private final ActionTokenMode tokenMode;
 
     public RequestEmailConfirmationService(UserRepository userRepository,
                                            EmailConfirmationTokenRepository emailConfirmationTokenRepository,
-                                           JavaMailEmailService javaMailEmailService) {
+                                           JavaMailEmailService javaMailEmailService,
+                                           EmailTemplateEngine emailTemplateEngine,
+                                           SignedActionTokenService signedActionTokenService,
+                                           @Value("${api.security.action-token.mode:DATABASE}") ActionTokenMode tokenMode) {
         this.userRepository = userRepository;
         this.emailConfirmationTokenRepository = emailConfirmationTokenRepository;
         this.javaMailEmailService = javaMailEmailService;
+        this.emailTemplateEngine = emailTemplateEngine;
+        this.signedActionTokenService = signedActionTokenService;
+        this.tokenMode = tokenMode;
     }
 
     @Override
@@ -41,49 +62,50 @@ public class RequestEmailConfirmationService implements RequestEmailConfirmation
             return;
         }
 
+        String plainTextToken = switch (tokenMode) {
+            case SIGNED -> signedActionTokenService.issue(user, SignedActionTokenService.Purpose.EMAIL_CONFIRMATION, TOKEN_TTL);
+            case DATABASE -> storeToken(user);
+        };
+
+        javaMailEmailService.sendHtml(user.getEmail(), SUBJECT, render(plainTextToken));
+    }
+
+    @Override
+    @Transactional
+    public void handleNewUsers(List<User> users) {
+        List<EmailConfirmationToken> tokens = new ArrayList<>(users.size());
+        List<EmailOutboxMessage> messages = new ArrayList<>(users.size());
+        LocalDateTime expiryDate = LocalDateTime.now().plus(TOKEN_TTL);
+        for (User user : users) {
+            String plainTextToken = switch (tokenMode) {
+                case SIGNED -> signedActionTokenService.issue(user, SignedActionTokenService.Purpose.EMAIL_CONFIRMATION, TOKEN_TTL);
+                case DATABASE -> {
+                    String token = TokenUtils.generateSecureToken();
+                    tokens.add(new EmailConfirmationToken(TokenUtils.hashToken(token), user, expiryDate));
+                    yield token;
+                }
+            };
+            messages.add(EmailOutboxMessage.create(user.getEmail(), SUBJECT, render(plainTextToken)));
+        }
+        // Usuários novos não têm tokens anteriores a apagar
+        if (!tokens.isEmpty()) {
+            emailConfirmationTokenRepository.saveAll(tokens);
+        }
+        javaMailEmailService.sendHtmlAll(messages);
+    }
+
+    private String storeToken(User user) {
         emailConfirmationTokenRepository.deleteByUser(user);
 
         String plainTextToken = TokenUtils.generateSecureToken();
         String tokenHash = TokenUtils.hashToken(plainTextToken);
 
-        EmailConfirmationToken myToken = new EmailConfirmationToken(tokenHash, user, LocalDateTime.now().plusHours(24));
+        EmailConfirmationToken myToken = new EmailConfirmationToken(tokenHash, user, LocalDateTime.now().plus(TOKEN_TTL));
         emailConfirmationTokenRepository.save(myToken);
-
-        String htmlContent = getConfirmationEmailHtml(plainTextToken);
-        javaMailEmailService.sendHtml(user.getEmail(), "Confirme seu E-mail - Projeto Resgate", htmlContent);
+        return plainTextToken;
     }
 
-    private String getConfirmationEmailHtml(String token) {
-        String confirmationUrl = "http://localhost:3000/confirm-email/" + token;
-
-        return """
-                <html>
-                  <head>
-                    <meta charset="UTF-8">
-                    <style>
-                      body { font-family: 'Arial', sans-serif; margin: 0; padding: 0; background-color: #f4f4f4; }
-                      .container { max-width: 600px; margin: 20px auto; background-color: #ffffff; padding: 20px; border-radius: 8px; box-shadow: 0 2px 4px rgba(0,0,0,0.1); }
-                      .header { font-size: 24px; font-weight: bold; color: #16A34A; text-align: center; margin-bottom: 20px; }
-                      .content { font-size: 16px; color: #333; line-height: 1.5; }
-                      .button { display: block; width: 200px; margin: 20px auto; padding: 15px; background-color: #16A34A; color: #ffffff; text-align: center; text-decoration: none; border-radius: 5px; font-weight: bold; }
-                      .footer { font-size: 12px; color: #777; text-align: center; margin-top: 20px; }
-                    </style>
-                  </head>
-                  <body>
-                    <div class="container">
-                      <div class="header">Confirme seu E-mail</div>
-                      <div class="content">
-                        <p>Olá,</p>
-                        <p>Para completar seu cadastro no <strong>Projeto Resgate</strong>, clique no botão abaixo para confirmar seu endereço de e-mail.</p>
-                        <a href="%s" class="button" style="color: #ffffff;">Confirmar E-mail</a>
-                        <p>Se você não criou esta conta, pode ignorar este e-mail com segurança.</p>
-                      </div>
-                      <div class="footer">
-                        Este é um e-mail automático. Não é necessário respondê-lo.
-                      </div>
-                    </div>
-                  </body>
-                </html>
-                """.formatted(confirmationUrl);
+    private String render(String plainTextToken) {
+        return emailTemplateEngine.render(EmailTemplateEngine.EMAIL_CONFIRMATION, Map.of("token", plainTextToken));
     }
 }
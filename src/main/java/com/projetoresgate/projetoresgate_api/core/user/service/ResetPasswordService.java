@@ -6,7 +6,11 @@ import com.projetoresgate.projetoresgate_api.core.user.repository.PasswordResetT
 import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.ResetPasswordUseCase;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.PrincipalCache;
+import com.projetoresgate.projetoresgate_api.infrastructure.services.ActionTokenMode;
+import com.projetoresgate.projetoresgate_api.infrastructure.services.SignedActionTokenService;
 import com.projetoresgate.projetoresgate_api.infrastructure.utils.TokenUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,18 +22,34 @@ public class ResetPasswordService implements ResetPasswordUseCase {
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final SignedActionTokenService signedActionTokenService;
+    private final ActionTokenMode tokenMode;
 
     public ResetPasswordService(PasswordResetTokenRepository passwordResetTokenRepository,
                                 UserRepository userRepository,
-                                PasswordEncoder passwordEncoder) {
+                                PasswordEncoder passwordEncoder,
+                                PrincipalCache principalCache,
+                                SignedActionTokenService signedActionTokenService,
+                                @Value("${api.security.action-token.mode:DATABASE}") ActionTokenMode tokenMode) {
         this.passwordResetTokenRepository = passwordResetTokenRepository;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.principalCache = principalCache;
+        this.signedActionTokenService = signedActionTokenService;
+        this.tokenMode = tokenMode;
     }
 
     @Override
     @Transactional
     public void handle(String token, String newPassword) {
+        switch (tokenMode) {
+            case SIGNED -> resetWithSignedToken(token, newPassword);
+            case DATABASE -> resetWithStoredToken(token, newPassword);
+        }
+    }
+
+    private void resetWithStoredToken(String token, String newPassword) {
         String tokenHash = TokenUtils.hashToken(token);
         PasswordResetToken resetToken = passwordResetTokenRepository.findByTokenHash(tokenHash)
                 .orElseThrow(() -> new InternalException("Token inválido ou não encontrado."));
@@ -39,14 +59,35 @@ public class ResetPasswordService implements ResetPasswordUseCase {
             throw new InternalException("O token expirou. Solicite uma nova redefinição de senha.");
         }
 
+        validateNewPassword(newPassword);
+        changePassword(resetToken.getUser(), newPassword);
+
+        passwordResetTokenRepository.delete(resetToken);
+    }
+
+    // A troca do hash da senha invalida o token: nada a remover no banco
+    private void resetWithSignedToken(String token, String newPassword) {
+        SignedActionTokenService.Claims claims = signedActionTokenService.verify(token, SignedActionTokenService.Purpose.PASSWORD_RESET);
+        if (claims.isExpired()) {
+            throw new InternalException("O token expirou. Solicite uma nova redefinição de senha.");
+        }
+
+        validateNewPassword(newPassword);
+        User user = userRepository.findById(claims.userId())
+                .filter(candidate -> signedActionTokenService.isCurrent(claims, candidate))
+                .orElseThrow(() -> new InternalException("Token inválido ou não encontrado."));
+        changePassword(user, newPassword);
+    }
+
+    private static void validateNewPassword(String newPassword) {
         if (!StringUtils.hasText(newPassword) || newPassword.length() < 6) {
             throw new InternalException("A nova senha deve ter no mínimo 6 caracteres.");
         }
+    }
 
-        User user = resetToken.getUser();
+    private void changePassword(User user, String newPassword) {
         user.changePassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
-
-        passwordResetTokenRepository.delete(resetToken);
+        principalCache.invalidate(user);
     }
 }
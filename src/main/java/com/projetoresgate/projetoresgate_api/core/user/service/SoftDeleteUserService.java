@@ -5,20 +5,24 @@ import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository
 import com.projetoresgate.projetoresgate_api.core.user.usecase.SoftDeleteUserUseCase;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.command.SoftDeleteUserCommand;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.PrincipalCache;
 import org.springframework.stereotype.Service;
 
 @Service
 public class SoftDeleteUserService implements SoftDeleteUserUseCase {
 
     private final UserRepository repository;
+    private final PrincipalCache principalCache;
 
-    public SoftDeleteUserService(UserRepository repository) {
+    public SoftDeleteUserService(UserRepository repository, PrincipalCache principalCache) {
         this.repository = repository;
+        this.principalCache = principalCache;
     }
 
     @Override
     public void handle(SoftDeleteUserCommand cmd) {
         User user = repository.findById(cmd.id()).orElseThrow(() -> new InternalException("Usuário não encontrado."));
         repository.delete(user);
+        principalCache.invalidate(user);
     }
 }
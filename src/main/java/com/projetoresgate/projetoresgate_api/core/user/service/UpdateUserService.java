@@ -5,6 +5,7 @@ import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository
 import com.projetoresgate.projetoresgate_api.core.user.usecase.UpdateUserUseCase;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.command.UpdateUserCommand;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.PrincipalCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -16,10 +17,12 @@ public class UpdateUserService implements UpdateUserUseCase {
 
     private final UserRepository repository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
-    public UpdateUserService(UserRepository repository, PasswordEncoder passwordEncoder) {
+    public UpdateUserService(UserRepository repository, PasswordEncoder passwordEncoder, PrincipalCache principalCache) {
         this.repository = repository;
         this.passwordEncoder = passwordEncoder;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -52,5 +55,6 @@ public class UpdateUserService implements UpdateUserUseCase {
 
         user.validate();
         repository.save(user);
+        principalCache.invalidate(user);
     }
 }
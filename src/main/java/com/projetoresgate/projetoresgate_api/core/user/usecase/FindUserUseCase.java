@@ -1,10 +1,10 @@
 package com.projetoresgate.projetoresgate_api.core.user.usecase;
 
-import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.core.user.api.dto.UserResponse;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.query.FindUserByIdQuery;
 
 public interface FindUserUseCase {
 
-    User handle(FindUserByIdQuery query);
+    UserResponse handle(FindUserByIdQuery query);
 
 }
@@ -0,0 +1,10 @@
+package com.projetoresgate.projetoresgate_api.core.user.usecase;
+
+import com.projetoresgate.projetoresgate_api.core.user.api.dto.AuthenticationResponse;
+import com.projetoresgate.projetoresgate_api.core.user.usecase.command.RefreshTokenCommand;
+
+public interface RefreshAccessTokenUseCase {
+
+    AuthenticationResponse handle(RefreshTokenCommand command);
+
+}
@@ -1,5 +1,14 @@
 package com.projetoresgate.projetoresgate_api.core.user.usecase;
 
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+
+import java.util.List;
+
 public interface RequestEmailConfirmationUseCase {
     void handle(String email);
+
+    /**
+     * Enfileira a confirmação de usuários recém-gravados na transação corrente, sem buscá-los de novo.
+     */
+    void handleNewUsers(List<User> users);
 }
@@ -0,0 +1,9 @@
+package com.projetoresgate.projetoresgate_api.core.user.usecase.command;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenCommand(
+        @NotBlank(message = "O refresh token não pode ser vazio.")
+        String refreshToken
+) {
+}
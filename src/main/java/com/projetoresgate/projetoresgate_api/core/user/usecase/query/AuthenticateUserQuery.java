@@ -1,5 +1,6 @@
 package com.projetoresgate.projetoresgate_api.core.user.usecase.query;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -11,6 +12,12 @@ public record AuthenticateUserQuery(
 
         @NotBlank(message = "A senha não pode ser vazia.")
         @Size(min = 6, message = "A senha deve ter no mínimo 6 caracteres.")
-        String password
+        String password,
+
+        @JsonIgnore
+        String remoteAddress
 ) {
+    public AuthenticateUserQuery withRemoteAddress(String remoteAddress) {
+        return new AuthenticateUserQuery(this.email, this.password, remoteAddress);
+    }
 }
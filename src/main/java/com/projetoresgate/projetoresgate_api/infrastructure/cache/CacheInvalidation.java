@@ -0,0 +1,68 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.cache;
+
+import java.util.UUID;
+
+/**
+ * Uma entrada de aviso de invalidação, codificada em uma linha do payload do {@code NOTIFY}:
+ * {@code U:<id>:<e-mail>} para usuários, {@code P:<id>} para pessoas físicas e {@code Q} quando apenas
+ * os resultados de consultas ficaram desatualizados (inclusões em massa, por exemplo).
+ */
+record CacheInvalidation(Type type, UUID id, String email) {
+
+    enum Type {
+        USER('U'),
+        PHYSICAL_PERSON('P'),
+        QUERY_RESULTS('Q');
+
+        private final char code;
+
+        Type(char code) {
+            this.code = code;
+        }
+    }
+
+    static CacheInvalidation user(UUID id, String email) {
+        return new CacheInvalidation(Type.USER, id, email);
+    }
+
+    static CacheInvalidation physicalPerson(UUID id) {
+        return new CacheInvalidation(Type.PHYSICAL_PERSON, id, null);
+    }
+
+    static CacheInvalidation queryResults() {
+        return new CacheInvalidation(Type.QUERY_RESULTS, null, null);
+    }
+
+    String encode() {
+        if (type == Type.QUERY_RESULTS) {
+            return String.valueOf(type.code);
+        }
+        return type == Type.USER && email != null
+                ? type.code + ":" + id + ":" + email
+                : type.code + ":" + id;
+    }
+
+    /**
+     * @return a entrada, ou {@code null} se a linha não estiver no formato esperado
+     */
+    static CacheInvalidation decode(String line) {
+        if (line.equals(String.valueOf(Type.QUERY_RESULTS.code))) {
+            return queryResults();
+        }
+        String[] parts = line.split(":", 3);
+        if (parts.length < 2 || parts[0].length() != 1) {
+            return null;
+        }
+        UUID id;
+        try {
+            id = UUID.fromString(parts[1]);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return switch (parts[0].charAt(0)) {
+            case 'U' -> user(id, parts.length == 3 ? parts[2] : null);
+            case 'P' -> physicalPerson(id);
+            default -> null;
+        };
+    }
+}
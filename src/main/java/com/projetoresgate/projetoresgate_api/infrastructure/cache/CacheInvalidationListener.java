@@ -0,0 +1,231 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.cache;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.PrincipalCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Escuta, em uma conexão própria fora do pool, os avisos de {@link CacheInvalidationPublisher} enviados pelas
+ * outras réplicas e descarta as entradas correspondentes do {@link PrincipalCache} e do cache de segundo nível.
+ * <p>
+ * Os avisos que chegam dentro de {@code coalesce-window} são aplicados juntos, com um único descarte do cache
+ * de consultas. Se a conexão cair, avisos podem ter se perdido: ao reconectar, todos os caches são esvaziados.
+ * Só é iniciado quando o banco é PostgreSQL.
+ */
+@Component
+public class CacheInvalidationListener implements SmartLifecycle {
+
+    private static final String ROLES_COLLECTION = User.class.getName() + ".roles";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+
+    private final DataSourceProperties dataSourceProperties;
+    private final CacheInvalidationPublisher publisher;
+    private final PrincipalCache principalCache;
+    private final EntityManagerFactory entityManagerFactory;
+    private final boolean enabled;
+    private final Duration coalesceWindow;
+    private final Duration reconnectDelay;
+
+    private final Counter userCounter;
+    private final Counter physicalPersonCounter;
+    private final Counter queryResultsCounter;
+    private final Counter flushCounter;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+
+    public CacheInvalidationListener(DataSourceProperties dataSourceProperties,
+                                     CacheInvalidationPublisher publisher,
+                                     PrincipalCache principalCache,
+                                     EntityManagerFactory entityManagerFactory,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${api.cache.invalidation.enabled:true}") boolean enabled,
+                                     @Value("${api.cache.invalidation.coalesce-window:100ms}") Duration coalesceWindow,
+                                     @Value("${api.cache.invalidation.reconnect-delay:1s}") Duration reconnectDelay) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.publisher = publisher;
+        this.principalCache = principalCache;
+        this.entityManagerFactory = entityManagerFactory;
+        this.enabled = enabled;
+        this.coalesceWindow = coalesceWindow;
+        this.reconnectDelay = reconnectDelay;
+        this.userCounter = invalidationCounter(meterRegistry, "user");
+        this.physicalPersonCounter = invalidationCounter(meterRegistry, "physical-person");
+        this.queryResultsCounter = invalidationCounter(meterRegistry, "query-results");
+        this.flushCounter = Counter.builder("cache.invalidation.full-flushes")
+                .description("Esvaziamentos completos dos caches após reconexão do LISTEN")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        String url = dataSourceProperties.determineUrl();
+        if (!enabled || url == null || !url.startsWith("jdbc:postgresql:")) {
+            return;
+        }
+        running = true;
+        Thread.ofPlatform().daemon().name("cache-invalidation-listener").start(() -> listen(url));
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        // Fechar a conexão interrompe a espera em getNotifications
+        Connection current = connection;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (SQLException ignored) {
+                // A conexão já estava inutilizável
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen(String url) {
+        boolean connectedBefore = false;
+        long backoffNanos = reconnectDelay.toNanos();
+        while (running) {
+            try (Connection connection = connect(url)) {
+                this.connection = connection;
+                if (!running) {
+                    return;
+                }
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CacheInvalidationPublisher.CHANNEL);
+                }
+                if (connectedBefore) {
+                    flushAll();
+                }
+                connectedBefore = true;
+                backoffNanos = reconnectDelay.toNanos();
+                receive(connection.unwrap(PGConnection.class));
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                LockSupport.parkNanos(backoffNanos);
+                backoffNanos = Math.min(backoffNanos * 2, MAX_BACKOFF.toNanos());
+            }
+        }
+    }
+
+    private void receive(PGConnection connection) throws SQLException {
+        while (running) {
+            PGNotification[] notifications = connection.getNotifications((int) POLL_TIMEOUT.toMillis());
+            if (notifications == null || notifications.length == 0) {
+                continue;
+            }
+            Set<CacheInvalidation> batch = new LinkedHashSet<>();
+            collect(notifications, batch);
+
+            // Junta o que chegar logo em seguida para descartar o cache de consultas uma única vez
+            long deadline = System.nanoTime() + coalesceWindow.toNanos();
+            long remaining;
+            while ((remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())) > 0) {
+                notifications = connection.getNotifications((int) remaining);
+                if (notifications != null) {
+                    collect(notifications, batch);
+                }
+            }
+            apply(batch);
+        }
+    }
+
+    void collect(PGNotification[] notifications, Set<CacheInvalidation> batch) {
+        for (PGNotification notification : notifications) {
+            String[] lines = notification.getParameter().split("\n");
+            if (lines[0].equals(publisher.getNodeId())) {
+                continue;
+            }
+            for (int i = 1; i < lines.length; i++) {
+                CacheInvalidation invalidation = CacheInvalidation.decode(lines[i]);
+                if (invalidation != null) {
+                    batch.add(invalidation);
+                }
+            }
+        }
+    }
+
+    void apply(Set<CacheInvalidation> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Cache cache = secondLevelCache();
+        for (CacheInvalidation invalidation : batch) {
+            switch (invalidation.type()) {
+                case USER -> {
+                    principalCache.evict(invalidation.id(), invalidation.email());
+                    cache.evictEntityData(User.class, invalidation.id());
+                    cache.evictCollectionData(ROLES_COLLECTION, invalidation.id());
+                    userCounter.increment();
+                }
+                case PHYSICAL_PERSON -> {
+                    cache.evictEntityData(PhysicalPerson.class, invalidation.id());
+                    physicalPersonCounter.increment();
+                }
+                // Coberto pelo descarte do cache de consultas feito ao final do lote
+                case QUERY_RESULTS -> queryResultsCounter.increment();
+            }
+        }
+        // Resultados de consultas podem conter as linhas alteradas em outra réplica
+        cache.evictQueryRegions();
+    }
+
+    void flushAll() {
+        principalCache.invalidateAll();
+        secondLevelCache().evictAllRegions();
+        flushCounter.increment();
+    }
+
+    private Connection connect(String url) throws SQLException {
+        Properties properties = new Properties();
+        if (dataSourceProperties.determineUsername() != null) {
+            properties.setProperty("user", dataSourceProperties.determineUsername());
+        }
+        if (dataSourceProperties.determinePassword() != null) {
+            properties.setProperty("password", dataSourceProperties.determinePassword());
+        }
+        properties.setProperty("tcpKeepAlive", "true");
+        properties.setProperty("ApplicationName", "projetoresgate-cache-invalidation");
+        return DriverManager.getConnection(url, properties);
+    }
+
+    private Cache secondLevelCache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    private static Counter invalidationCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("cache.invalidation.received")
+                .description("Avisos de invalidação recebidos de outras réplicas")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
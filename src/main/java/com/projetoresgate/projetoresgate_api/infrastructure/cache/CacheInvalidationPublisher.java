@@ -0,0 +1,126 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Avisa as outras réplicas da API, por {@code NOTIFY} no PostgreSQL, que usuários ou pessoas físicas mudaram
+ * e que seus caches locais precisam descartar essas entradas.
+ * <p>
+ * Dentro de uma transação os avisos são acumulados e enviados em um único {@code NOTIFY} antes do commit; o
+ * PostgreSQL só os entrega se a transação for confirmada. Fora de transação (a alteração já foi gravada) o
+ * aviso sai na hora. Em outros bancos, como o H2 dos testes, nada é enviado.
+ */
+@Component
+public class CacheInvalidationPublisher {
+
+    static final String CHANNEL = "cache_invalidation";
+
+    // O PostgreSQL aceita payloads de até 8000 bytes; acima disso o aviso é dividido
+    private static final int MAX_PAYLOAD_LENGTH = 7000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(JdbcTemplate jdbcTemplate,
+                                      @Value("${api.cache.invalidation.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    public void userChanged(UUID userId, String email) {
+        if (userId != null) {
+            publish(CacheInvalidation.user(userId, email));
+        }
+    }
+
+    public void physicalPersonChanged(UUID physicalPersonId) {
+        if (physicalPersonId != null) {
+            publish(CacheInvalidation.physicalPerson(physicalPersonId));
+        }
+    }
+
+    /**
+     * Para gravações que não passam pelo Hibernate ou que só criam registros: as outras réplicas descartam
+     * o cache de consultas, que pode guardar resultados negativos (e-mail ou CPF ainda inexistente).
+     */
+    public void queryResultsChanged() {
+        publish(CacheInvalidation.queryResults());
+    }
+
+    /**
+     * Identifica esta réplica nos avisos, para que ela ignore os que ela mesma enviou.
+     */
+    String getNodeId() {
+        return nodeId;
+    }
+
+    private void publish(CacheInvalidation invalidation) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(List.of(invalidation.encode()));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<String> entries = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, entries);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    send(entries);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationPublisher.this);
+                }
+            });
+            pending = entries;
+        }
+        pending.add(invalidation.encode());
+    }
+
+    private void send(Iterable<String> entries) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(nodeId);
+        for (String entry : entries) {
+            if (payload.length() + entry.length() + 1 > MAX_PAYLOAD_LENGTH) {
+                payloads.add(payload.toString());
+                payload.setLength(0);
+                payload.append(nodeId);
+            }
+            payload.append('\n').append(entry);
+        }
+        payloads.add(payload.toString());
+
+        jdbcTemplate.execute((Connection connection) -> {
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                return null;
+            }
+            try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                for (String value : payloads) {
+                    statement.setString(1, CHANNEL);
+                    statement.setString(2, value);
+                    statement.execute();
+                }
+            }
+            return null;
+        });
+    }
+}
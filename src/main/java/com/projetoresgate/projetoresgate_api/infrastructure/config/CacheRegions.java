@@ -0,0 +1,20 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.config;
+
+/**
+ * Nomes das regiões do cache de segundo nível do Hibernate, usados nos mapeamentos e nas dicas de consulta.
+ * Cada região é criada com seus próprios limites em {@link SecondLevelCacheConfig}.
+ */
+public final class CacheRegions {
+
+    public static final String USERS = "users";
+    public static final String USER_ROLES = "user-roles";
+    public static final String PHYSICAL_PERSONS = "physical-persons";
+
+    // Consultas pelas chaves naturais; invalidadas sempre que as tabelas envolvidas mudam
+    public static final String USERS_BY_EMAIL = "users-by-email";
+    public static final String PHYSICAL_PERSONS_BY_USER_ID = "physical-persons-by-user-id";
+    public static final String PHYSICAL_PERSONS_BY_CPF = "physical-persons-by-cpf";
+
+    private CacheRegions() {
+    }
+}
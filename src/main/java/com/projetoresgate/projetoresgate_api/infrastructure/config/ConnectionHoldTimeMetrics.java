@@ -0,0 +1,116 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Mede por quanto tempo cada conexão do pool fica emprestada, com o endpoint que a segurou.
+ * Publicado como {@code db.connection.hold}, com as tags {@code method} e {@code uri}.
+ */
+@Component
+public class ConnectionHoldTimeMetrics implements BeanPostProcessor {
+
+    static final String METRIC_NAME = "db.connection.hold";
+
+    // Conexões abertas antes do mapeamento do handler (filtros de segurança, por exemplo)
+    private static final String UNKNOWN_URI = "UNKNOWN";
+    private static final String NO_REQUEST = "none";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ConnectionHoldTimeMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof HoldTimeDataSource)) {
+            return new HoldTimeDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    private void record(String method, String uri, long elapsedNanos) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        Timer.builder(METRIC_NAME)
+                .description("Tempo em que a conexão JDBC ficou emprestada do pool")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private class HoldTimeDataSource extends DelegatingDataSource {
+
+        HoldTimeDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return track(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return track(super.getConnection(username, password));
+        }
+
+        private Connection track(Connection connection) {
+            long acquiredAt = System.nanoTime();
+            AtomicBoolean closed = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                            // O endpoint é lido no fechamento, quando o padrão da rota já foi resolvido
+                            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+                            record(httpMethod(attributes), uri(attributes), System.nanoTime() - acquiredAt);
+                        }
+                        return invoke(connection, method, args);
+                    });
+        }
+    }
+
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static String httpMethod(RequestAttributes attributes) {
+        return attributes instanceof ServletRequestAttributes servletAttributes
+                ? servletAttributes.getRequest().getMethod()
+                : NO_REQUEST;
+    }
+
+    private static String uri(RequestAttributes attributes) {
+        if (attributes == null) {
+            return NO_REQUEST;
+        }
+        Object pattern = attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+}
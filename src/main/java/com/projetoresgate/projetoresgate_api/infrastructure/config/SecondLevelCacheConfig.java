@@ -0,0 +1,89 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Cache de segundo nível do Hibernate, em memória, sobre a implementação JCache do Caffeine.
+ * <p>
+ * Cada região tem tamanho máximo e validade próprios, ajustáveis por {@code api.jpa.cache.<região>.maximum-size}
+ * e {@code api.jpa.cache.<região>.ttl}. Regiões não declaradas aqui fazem a inicialização falhar, para que um
+ * mapeamento novo não caia em um cache sem limites. As estatísticas por região são publicadas no Actuator
+ * pelo {@code hibernate-micrometer} ({@code hibernate.second.level.cache.*} e {@code hibernate.query.cache.*}).
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final String PROPERTY_PREFIX = "api.jpa.cache.";
+
+    private static final List<RegionLimits> REGIONS = List.of(
+            new RegionLimits(CacheRegions.USERS, 10_000, Duration.ofMinutes(10)),
+            new RegionLimits(CacheRegions.USER_ROLES, 10_000, Duration.ofMinutes(10)),
+            new RegionLimits(CacheRegions.PHYSICAL_PERSONS, 10_000, Duration.ofMinutes(10)),
+            new RegionLimits(CacheRegions.USERS_BY_EMAIL, 10_000, Duration.ofMinutes(5)),
+            new RegionLimits(CacheRegions.PHYSICAL_PERSONS_BY_USER_ID, 10_000, Duration.ofMinutes(5)),
+            new RegionLimits(CacheRegions.PHYSICAL_PERSONS_BY_CPF, 10_000, Duration.ofMinutes(5)),
+            new RegionLimits(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, 1_000, Duration.ofMinutes(5)),
+            // Marcas de atualização das tabelas: não podem expirar antes dos resultados de consulta que validam
+            new RegionLimits(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, 0, Duration.ZERO)
+    );
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(Environment environment) {
+        // Um gerenciador por contexto, para que SessionFactories diferentes não compartilhem regiões
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("projetoresgate-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        Binder binder = Binder.get(environment);
+        for (RegionLimits region : REGIONS) {
+            cacheManager.createCache(region.name(), region.configuration(binder));
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    /**
+     * @param maximumSize quantidade máxima de entradas, ou 0 para não limitar
+     * @param ttl         validade após a gravação, ou zero para não expirar
+     */
+    private record RegionLimits(String name, long maximumSize, Duration ttl) {
+
+        CaffeineConfiguration<Object, Object> configuration(Binder binder) {
+            long size = binder.bind(PROPERTY_PREFIX + name + ".maximum-size", Long.class).orElse(maximumSize);
+            Duration expiry = binder.bind(PROPERTY_PREFIX + name + ".ttl", Duration.class).orElse(ttl);
+
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            // O Hibernate já guarda o estado desmontado; copiar cada entrada a cada leitura seria desperdício
+            configuration.setStoreByValue(false);
+            configuration.setMaximumSize(size > 0 ? OptionalLong.of(size) : OptionalLong.empty());
+            configuration.setExpireAfterWrite(expiry.isZero() ? OptionalLong.empty() : OptionalLong.of(expiry.toNanos()));
+            return configuration;
+        }
+    }
+}
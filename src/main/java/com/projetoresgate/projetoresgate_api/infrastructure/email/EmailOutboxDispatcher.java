@@ -0,0 +1,286 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.email;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Envia os e-mails do outbox em lotes, depois do commit de quem os gravou.
+ * <p>
+ * Cada lote usa uma única conexão SMTP ({@link JavaMailSender#send(MimeMessage...)}), respeita a taxa
+ * configurada para o provedor e, em caso de falha, reagenda a mensagem com backoff exponencial.
+ * Uma varredura periódica recupera retentativas e mensagens deixadas por instâncias encerradas; no
+ * desligamento, os pendentes são enviados até o limite de {@code shutdown-timeout}.
+ */
+@Component
+public class EmailOutboxDispatcher implements SmartLifecycle {
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    // Mensagens reservadas e não concluídas (queda do processo) voltam para a fila após esse prazo
+    private static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+
+    private final EmailOutboxRepository repository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final String sender;
+    private final String recipientOverride;
+    private final int batchSize;
+    private final long permitIntervalNanos;
+    private final int maxAttempts;
+    private final Duration pollInterval;
+    private final Duration shutdownTimeout;
+
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService poller;
+
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    private final Counter drainErrorCounter;
+    private final Timer batchTimer;
+
+    private long nextPermitAt = System.nanoTime();
+    private volatile boolean running;
+    private volatile boolean stopping;
+    private volatile long shutdownDeadline;
+
+    /**
+     * @param recipientOverride quando preenchido, todos os e-mails são entregues a esse endereço (ambientes de teste)
+     * @param ratePerSecond     máximo de mensagens por segundo aceito pelo provedor SMTP
+     */
+    public EmailOutboxDispatcher(EmailOutboxRepository repository,
+                                 JavaMailSender mailSender,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${spring.mail.username}") String sender,
+                                 @Value("${api.email.recipient-override:}") String recipientOverride,
+                                 @Value("${api.email.outbox.worker-threads:2}") int workerThreads,
+                                 @Value("${api.email.outbox.batch-size:50}") int batchSize,
+                                 @Value("${api.email.outbox.rate-per-second:10}") double ratePerSecond,
+                                 @Value("${api.email.outbox.max-attempts:8}") int maxAttempts,
+                                 @Value("${api.email.outbox.poll-interval:30s}") Duration pollInterval,
+                                 @Value("${api.email.outbox.shutdown-timeout:20s}") Duration shutdownTimeout) {
+        this.repository = repository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sender = sender;
+        this.recipientOverride = recipientOverride;
+        this.batchSize = batchSize;
+        this.permitIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        this.maxAttempts = maxAttempts;
+        this.pollInterval = pollInterval;
+        this.shutdownTimeout = shutdownTimeout;
+
+        // Um pedido de envio na fila já basta: o worker drena tudo o que estiver vencido
+        this.workers = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workerThreads), new CustomizableThreadFactory("email-outbox-"),
+                new ThreadPoolExecutor.DiscardPolicy());
+        this.poller = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("email-outbox-poller-"));
+
+        this.sentCounter = deliveryCounter(meterRegistry, "sent");
+        this.retryCounter = deliveryCounter(meterRegistry, "retry");
+        this.failedCounter = deliveryCounter(meterRegistry, "failed");
+        this.drainErrorCounter = Counter.builder("email.outbox.drain.errors")
+                .description("Falhas inesperadas ao drenar o outbox (banco indisponível, por exemplo)")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("email.outbox.batch")
+                .description("Tempo de envio de um lote por uma única conexão SMTP")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Pede um envio. Chamado após o commit das transações que gravam no outbox.
+     */
+    public void wakeUp() {
+        if (running) {
+            workers.execute(this::drainSafely);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        poller.scheduleWithFixedDelay(this::wakeUp, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        poller.shutdownNow();
+
+        shutdownDeadline = System.nanoTime() + shutdownTimeout.toNanos();
+        stopping = true;
+        workers.execute(this::drainSafely);
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Para depois do servidor web, para incluir no dreno os e-mails das últimas requisições
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * Envia lotes até não restarem mensagens vencidas.
+     */
+    void drain() {
+        while (!shutdownTimedOut()) {
+            List<EmailOutboxMessage> batch = claimBatch();
+            if (batch.isEmpty()) {
+                return;
+            }
+            acquirePermits(batch.size());
+            Map<UUID, String> failures = batchTimer.record(() -> send(batch));
+            complete(batch, failures);
+        }
+    }
+
+    private void drainSafely() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            drainErrorCounter.increment();
+        }
+    }
+
+    private boolean shutdownTimedOut() {
+        return stopping && System.nanoTime() - shutdownDeadline > 0;
+    }
+
+    private List<EmailOutboxMessage> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EmailOutboxMessage> due = repository.findDueForUpdate(EmailOutboxStatus.PENDING, now, Limit.of(batchSize));
+            due.forEach(message -> message.claim(now.plus(CLAIM_LEASE)));
+            return due;
+        });
+    }
+
+    /**
+     * @return erro de cada mensagem não entregue, pelo id
+     */
+    private Map<UUID, String> send(List<EmailOutboxMessage> batch) {
+        Map<UUID, String> failures = new HashMap<>();
+        Map<MimeMessage, UUID> idsByMessage = new IdentityHashMap<>();
+        List<MimeMessage> mimeMessages = new ArrayList<>(batch.size());
+
+        for (EmailOutboxMessage message : batch) {
+            try {
+                MimeMessage mimeMessage = toMimeMessage(message);
+                idsByMessage.put(mimeMessage, message.getId());
+                mimeMessages.add(mimeMessage);
+            } catch (Exception e) {
+                failures.put(message.getId(), e.getMessage());
+            }
+        }
+        if (mimeMessages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            mailSender.send(mimeMessages.toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            // Apenas as mensagens listadas falharam; as demais saíram pela mesma conexão
+            e.getFailedMessages().forEach((failed, cause) -> failures.put(idsByMessage.get(failed), cause.getMessage()));
+        } catch (MailException e) {
+            idsByMessage.values().forEach(id -> failures.put(id, e.getMessage()));
+        }
+        return failures;
+    }
+
+    private MimeMessage toMimeMessage(EmailOutboxMessage message) throws Exception {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        // Corpo HTML em parte única: sem anexos, o multipart só acrescentaria níveis a codificar
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, "UTF-8");
+
+        helper.setFrom(sender);
+        helper.setTo(StringUtils.hasText(recipientOverride) ? recipientOverride : message.getRecipient());
+        helper.setSubject(message.getSubject());
+        helper.setText(message.getHtmlContent(), true);
+        return mimeMessage;
+    }
+
+    private void complete(List<EmailOutboxMessage> batch, Map<UUID, String> failures) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (EmailOutboxMessage message : repository.findAllById(batch.stream().map(EmailOutboxMessage::getId).toList())) {
+                if (!failures.containsKey(message.getId())) {
+                    message.markSent(now);
+                    sentCounter.increment();
+                    continue;
+                }
+                message.markFailed(failures.get(message.getId()), now.plus(backoff(message.getAttempts())), maxAttempts);
+                (message.getStatus() == EmailOutboxStatus.FAILED ? failedCounter : retryCounter).increment();
+            }
+        });
+    }
+
+    static Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 16);
+        Duration delay = INITIAL_BACKOFF.multipliedBy(1L << exponent);
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    // Distribui os envios no tempo para não ultrapassar a taxa do provedor, somando todos os workers
+    private void acquirePermits(int permits) {
+        long waitUntil;
+        synchronized (this) {
+            long now = System.nanoTime();
+            waitUntil = Math.max(nextPermitAt, now);
+            nextPermitAt = waitUntil + permits * permitIntervalNanos;
+        }
+        long remaining;
+        while ((remaining = waitUntil - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static Counter deliveryCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("email.outbox.deliveries")
+                .description("Resultado das tentativas de envio do outbox")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,135 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.email;
+
+import com.projetoresgate.projetoresgate_api.infrastructure.baseentities.TimeOrderedUuidGenerator;
+import jakarta.persistence.*;
+import org.hibernate.Length;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * E-mail gravado na mesma transação da operação que o originou e enviado depois do commit.
+ * <p>
+ * O corpo traz links com tokens em texto puro, então é apagado assim que a mensagem deixa de ser pendente;
+ * só os metadados da entrega permanecem até a limpeza periódica.
+ */
+@Entity
+@Table(name = "email_outbox")
+public class EmailOutboxMessage {
+
+    private static final int LAST_ERROR_LENGTH = 500;
+
+    @Id
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
+    private UUID id;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Column(name = "html_content", nullable = false, length = Length.LONG32)
+    private String htmlContent;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private EmailOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = LAST_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    protected EmailOutboxMessage() {
+    }
+
+    private EmailOutboxMessage(String recipient, String subject, String htmlContent, LocalDateTime now) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.htmlContent = htmlContent;
+        this.status = EmailOutboxStatus.PENDING;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    public static EmailOutboxMessage create(String recipient, String subject, String htmlContent) {
+        return new EmailOutboxMessage(recipient, subject, htmlContent, LocalDateTime.now());
+    }
+
+    /**
+     * Reserva a mensagem para um worker: outra tentativa só acontece se esta não for concluída até {@code leaseUntil}.
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markSent(LocalDateTime now) {
+        this.status = EmailOutboxStatus.SENT;
+        this.sentAt = now;
+        this.lastError = null;
+        this.htmlContent = "";
+    }
+
+    public void markFailed(String error, LocalDateTime retryAt, int maxAttempts) {
+        this.lastError = error != null && error.length() > LAST_ERROR_LENGTH ? error.substring(0, LAST_ERROR_LENGTH) : error;
+        if (attempts >= maxAttempts) {
+            this.status = EmailOutboxStatus.FAILED;
+            this.htmlContent = "";
+        } else {
+            this.nextAttemptAt = retryAt;
+        }
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getHtmlContent() {
+        return htmlContent;
+    }
+
+    public EmailOutboxStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getSentAt() {
+        return sentAt;
+    }
+}
@@ -0,0 +1,22 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.email;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, UUID> {
+
+    // lock.timeout = -2 gera "FOR UPDATE SKIP LOCKED": workers concorrentes não disputam as mesmas linhas
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select m from EmailOutboxMessage m where m.status = ?1 and m.nextAttemptAt <= ?2 order by m.nextAttemptAt")
+    List<EmailOutboxMessage> findDueForUpdate(EmailOutboxStatus status, LocalDateTime now, Limit limit);
+}
@@ -0,0 +1,7 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.email;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,87 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.email;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Template já quebrado em trechos estáticos e lacunas {@code {{nome}}}. A renderização apenas
+ * concatena os trechos com os valores, em um buffer reaproveitado pela thread.
+ */
+public final class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(StringBuilder::new);
+
+    // segments.length == slots.length + 1: cada lacuna fica entre dois trechos estáticos
+    private final String[] segments;
+    private final String[] slots;
+    private final int staticLength;
+
+    private EmailTemplate(String[] segments, String[] slots) {
+        this.segments = segments;
+        this.slots = slots;
+        int length = 0;
+        for (String segment : segments) {
+            length += segment.length();
+        }
+        this.staticLength = length;
+    }
+
+    /**
+     * @param constants valores fixos (como a URL base), resolvidos uma única vez e incorporados aos trechos estáticos
+     */
+    public static EmailTemplate parse(String source, Map<String, String> constants) {
+        List<String> segments = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        int position = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            int close = open < 0 ? -1 : source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                current.append(source, position, source.length());
+                break;
+            }
+            current.append(source, position, open);
+            String name = source.substring(open + OPEN.length(), close).trim();
+            if (constants.containsKey(name)) {
+                current.append(constants.get(name));
+            } else {
+                segments.add(current.toString());
+                slots.add(name);
+                current.setLength(0);
+            }
+            position = close + CLOSE.length();
+        }
+        segments.add(current.toString());
+        return new EmailTemplate(segments.toArray(String[]::new), slots.toArray(String[]::new));
+    }
+
+    public String render(Map<String, String> values) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        buffer.ensureCapacity(staticLength + 64 * slots.length);
+
+        buffer.append(segments[0]);
+        for (int i = 0; i < slots.length; i++) {
+            String value = values.get(slots[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("Valor ausente para o campo do template: " + slots[i]);
+            }
+            buffer.append(HtmlUtils.htmlEscape(value)).append(segments[i + 1]);
+        }
+
+        String rendered = buffer.toString();
+        // Um template atipicamente grande não deve manter o buffer da thread inflado
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return rendered;
+    }
+}
@@ -0,0 +1,45 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.email;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Carrega os templates de {@code templates/email/} uma única vez e os mantém já segmentados.
+ * A URL base do front-end ({@code {{baseUrl}}}) é resolvida no carregamento.
+ */
+@Component
+public class EmailTemplateEngine {
+
+    public static final String PASSWORD_RESET = "password-reset";
+    public static final String EMAIL_CONFIRMATION = "email-confirmation";
+
+    private static final String LOCATION = "templates/email/";
+
+    private final Map<String, String> constants;
+    private final Map<String, EmailTemplate> templates = new ConcurrentHashMap<>();
+
+    public EmailTemplateEngine(@Value("${api.email.base-url:http://localhost:5173}") String baseUrl) {
+        this.constants = Map.of("baseUrl", baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl);
+    }
+
+    public String render(String name, Map<String, String> values) {
+        return templates.computeIfAbsent(name, this::load).render(values);
+    }
+
+    private EmailTemplate load(String name) {
+        ClassPathResource resource = new ClassPathResource(LOCATION + name + ".html");
+        try (InputStream input = resource.getInputStream()) {
+            return EmailTemplate.parse(new String(input.readAllBytes(), StandardCharsets.UTF_8), constants);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Template de e-mail não encontrado: " + name, e);
+        }
+    }
+}
@@ -1,39 +1,51 @@
 package com.projetoresgate.projetoresgate_api.infrastructure.email;
 
-import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
-import jakarta.mail.internet.MimeMessage;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.List;
+
+/**
+ * Grava o e-mail no outbox dentro da transação corrente: se ela for desfeita, nada é enviado.
+ * A entrega fica a cargo do {@link EmailOutboxDispatcher}, acionado após o commit.
+ */
 @Service
 public class JavaMailEmailService {
 
-    private final JavaMailSender javaMailSender;
-
-    @Value("${spring.mail.username}")
-    private String sender;
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailOutboxDispatcher dispatcher;
 
-    public JavaMailEmailService(JavaMailSender javaMailSender) {
-        this.javaMailSender = javaMailSender;
+    public JavaMailEmailService(EmailOutboxRepository outboxRepository, EmailOutboxDispatcher dispatcher) {
+        this.outboxRepository = outboxRepository;
+        this.dispatcher = dispatcher;
     }
 
-    @Async
+    @Transactional
     public void sendHtml(String to, String subject, String htmlContent) {
-        try {
-            MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
-
-            helper.setFrom(sender);
-            helper.setTo("diegopriesss@gmail.com");
-            helper.setSubject(subject);
-            helper.setText(htmlContent, true);
-
-            javaMailSender.send(mimeMessage);
-        } catch (Exception e) {
-            throw new InternalException("Erro ao enviar e-mail.");
+        outboxRepository.save(EmailOutboxMessage.create(to, subject, htmlContent));
+        wakeUpDispatcherAfterCommit();
+    }
+
+    /**
+     * Grava várias mensagens de uma vez; o dispatcher é acordado uma única vez após o commit.
+     */
+    @Transactional
+    public void sendHtmlAll(List<EmailOutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
         }
+        outboxRepository.saveAll(messages);
+        wakeUpDispatcherAfterCommit();
+    }
+
+    private void wakeUpDispatcherAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatcher.wakeUp();
+            }
+        });
     }
 }
@@ -0,0 +1,8 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,8 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
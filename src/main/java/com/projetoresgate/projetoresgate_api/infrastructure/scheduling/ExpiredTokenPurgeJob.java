@@ -0,0 +1,124 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.scheduling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Remove periodicamente os tokens de confirmação de e-mail, de redefinição de senha e de renovação já expirados,
+ * além das mensagens do outbox de e-mail já concluídas há mais de {@code outbox-retention}.
+ * <p>
+ * A exclusão é feita em lotes de {@code chunk-size} linhas, cada um em sua própria transação, para não
+ * segurar locks por muito tempo. No PostgreSQL um advisory lock garante que apenas uma instância execute a limpeza.
+ */
+@Component
+public class ExpiredTokenPurgeJob {
+
+    // Chave arbitrária e fixa do advisory lock deste job
+    private static final long ADVISORY_LOCK_KEY = 4_712_093_001L;
+
+    private static final List<String> TABLES = List.of("password_reset_tokens", "email_confirmation_tokens", "refresh_tokens");
+    private static final String OUTBOX_TABLE = "email_outbox";
+    private static final String PURGE_OUTBOX = "DELETE FROM email_outbox WHERE id IN (SELECT id FROM email_outbox"
+            + " WHERE status IN ('SENT', 'FAILED') AND created_at < ? LIMIT ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+    private final Duration outboxRetention;
+    private final Map<String, Counter> purgedCounters;
+    private final Counter skippedCounter;
+
+    public ExpiredTokenPurgeJob(JdbcTemplate jdbcTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${api.security.token-purge.chunk-size:1000}") int chunkSize,
+                                @Value("${api.security.token-purge.outbox-retention:7d}") Duration outboxRetention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+        this.outboxRetention = outboxRetention;
+        this.purgedCounters = Stream.concat(TABLES.stream(), Stream.of(OUTBOX_TABLE)).collect(Collectors.toMap(Function.identity(),
+                table -> Counter.builder("security.tokens.purged")
+                        .description("Tokens expirados e e-mails concluídos removidos pela limpeza periódica")
+                        .tag("table", table)
+                        .register(meterRegistry)));
+        this.skippedCounter = Counter.builder("security.tokens.purge.skipped")
+                .description("Execuções ignoradas porque outra instância já fazia a limpeza")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return total de linhas removidas, ou -1 se outra instância estava executando a limpeza
+     */
+    @Scheduled(cron = "${api.security.token-purge.cron:0 */15 * * * *}")
+    public long purge() {
+        // Todo o job usa a mesma conexão: o advisory lock é da sessão e cada DELETE confirma sozinho
+        Long purged = jdbcTemplate.execute((Connection connection) -> {
+            boolean postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+            if (postgres && !tryLock(connection)) {
+                skippedCounter.increment();
+                return -1L;
+            }
+            try {
+                LocalDateTime now = LocalDateTime.now();
+                long total = 0;
+                for (String table : TABLES) {
+                    String sql = "DELETE FROM " + table + " WHERE id IN (SELECT id FROM " + table + " WHERE expiry_date < ? LIMIT ?)";
+                    total += purgeTable(connection, table, sql, now);
+                }
+                total += purgeTable(connection, OUTBOX_TABLE, PURGE_OUTBOX, now.minus(outboxRetention));
+                return total;
+            } finally {
+                if (postgres) {
+                    unlock(connection);
+                }
+            }
+        });
+        return purged != null ? purged : 0;
+    }
+
+    private long purgeTable(Connection connection, String table, String sql, LocalDateTime cutoff) throws SQLException {
+        long total = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setTimestamp(1, Timestamp.valueOf(cutoff));
+            statement.setInt(2, chunkSize);
+            int deleted;
+            do {
+                deleted = statement.executeUpdate();
+                total += deleted;
+                purgedCounters.get(table).increment(deleted);
+            } while (deleted == chunkSize);
+        }
+        return total;
+    }
+
+    private static boolean tryLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private static void unlock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            statement.execute();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Descobre o IP do cliente por trás do balanceador de carga.
+ * <p>
+ * O {@code X-Forwarded-For} só é considerado quando a conexão vem de um proxy listado em
+ * {@code api.security.trusted-proxies} (endereços ou faixas CIDR). A lista é lida da direita para a esquerda e o
+ * primeiro endereço que não for de um proxy confiável é o do cliente: o que estiver à esquerda dele pode ter sido
+ * forjado pelo próprio cliente. Sem proxies configurados, vale o endereço da conexão.
+ */
+@Component
+public class ClientAddressResolver {
+
+    static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientAddressResolver(@Value("${api.security.trusted-proxies:}") String[] trustedProxies) {
+        this.trustedProxies = Arrays.stream(trustedProxies)
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddress = request.getRemoteAddr();
+        if (!isTrusted(remoteAddress)) {
+            return remoteAddress;
+        }
+        String[] forwarded = StringUtils.commaDelimitedListToStringArray(request.getHeader(FORWARDED_FOR));
+        String client = remoteAddress;
+        for (int i = forwarded.length - 1; i >= 0; i--) {
+            String address = forwarded[i].trim();
+            if (!StringUtils.hasText(address)) {
+                continue;
+            }
+            client = address;
+            if (!isTrusted(address)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrusted(String address) {
+        if (address == null) {
+            return false;
+        }
+        try {
+            for (IpAddressMatcher proxy : trustedProxies) {
+                if (proxy.matches(address)) {
+                    return true;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // Entrada que não é um IP (nome de host, lixo no cabeçalho): nunca é um proxy confiável
+        }
+        return false;
+    }
+}
@@ -0,0 +1,157 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.projetoresgate.projetoresgate_api.infrastructure.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Limita as tentativas de login por IP (todas as tentativas) e por e-mail (apenas falhas)
+ * em uma janela deslizante. A verificação acontece antes de qualquer consulta ao banco ou
+ * cálculo de hash; chaves inativas são removidas automaticamente do cache.
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private static final String TOO_MANY_ATTEMPTS = "Muitas tentativas de login. Tente novamente em instantes.";
+
+    private final Ticker ticker;
+    private final long windowNanos;
+    private final int maxAttemptsPerIp;
+    private final int maxFailuresPerEmail;
+    private final Cache<String, SlidingWindowCounter> attemptsByIp;
+    private final Cache<String, SlidingWindowCounter> failuresByEmail;
+    private final Counter throttledByIp;
+    private final Counter throttledByEmail;
+
+    @Autowired
+    public LoginAttemptLimiter(MeterRegistry meterRegistry,
+                               @Value("${api.security.login-throttle.window:1m}") Duration window,
+                               @Value("${api.security.login-throttle.max-attempts-per-ip:20}") int maxAttemptsPerIp,
+                               @Value("${api.security.login-throttle.max-failures-per-email:5}") int maxFailuresPerEmail,
+                               @Value("${api.security.login-throttle.maximum-keys:100000}") long maximumKeys) {
+        this(meterRegistry, window, maxAttemptsPerIp, maxFailuresPerEmail, maximumKeys, Ticker.systemTicker());
+    }
+
+    LoginAttemptLimiter(MeterRegistry meterRegistry, Duration window, int maxAttemptsPerIp,
+                        int maxFailuresPerEmail, long maximumKeys, Ticker ticker) {
+        this.ticker = ticker;
+        this.windowNanos = window.toNanos();
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.attemptsByIp = buildCache(window, maximumKeys, ticker);
+        this.failuresByEmail = buildCache(window, maximumKeys, ticker);
+        CaffeineCacheMetrics.monitor(meterRegistry, attemptsByIp, "security.login-attempts.ip");
+        CaffeineCacheMetrics.monitor(meterRegistry, failuresByEmail, "security.login-attempts.email");
+        this.throttledByIp = throttledCounter(meterRegistry, "ip");
+        this.throttledByEmail = throttledCounter(meterRegistry, "email");
+    }
+
+    /**
+     * Registra a tentativa do IP e recusa com {@link TooManyRequestsException} se o IP ou
+     * o e-mail tiverem excedido o limite da janela.
+     */
+    public void acquire(String email, String remoteAddress) {
+        long now = ticker.read();
+
+        SlidingWindowCounter emailFailures = failuresByEmail.getIfPresent(normalize(email));
+        if (emailFailures != null && emailFailures.estimate(now, windowNanos) >= maxFailuresPerEmail) {
+            throttledByEmail.increment();
+            throw new TooManyRequestsException(TOO_MANY_ATTEMPTS);
+        }
+
+        if (isNull(remoteAddress)) {
+            return;
+        }
+        SlidingWindowCounter ipAttempts = attemptsByIp.get(remoteAddress, key -> new SlidingWindowCounter());
+        if (ipAttempts.incrementAndEstimate(now, windowNanos) > maxAttemptsPerIp) {
+            throttledByIp.increment();
+            throw new TooManyRequestsException(TOO_MANY_ATTEMPTS);
+        }
+    }
+
+    public void recordFailure(String email) {
+        failuresByEmail.get(normalize(email), key -> new SlidingWindowCounter())
+                .incrementAndEstimate(ticker.read(), windowNanos);
+    }
+
+    public void recordSuccess(String email) {
+        failuresByEmail.invalidate(normalize(email));
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Cache<String, SlidingWindowCounter> buildCache(Duration window, long maximumKeys, Ticker ticker) {
+        // Após duas janelas sem acesso o contador já estaria zerado
+        return Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(window.multipliedBy(2))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    private static Counter throttledCounter(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("security.login.throttled")
+                .description("Tentativas de login recusadas pelo limitador")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Aproxima a janela deslizante ponderando a contagem da janela fixa anterior pela fração
+     * ainda sobreposta. O estado é imutável e atualizado por CAS, sem locks.
+     */
+    static final class SlidingWindowCounter {
+
+        private record State(long window, int previous, int current) {
+        }
+
+        private final AtomicReference<State> state = new AtomicReference<>(new State(0, 0, 0));
+
+        int incrementAndEstimate(long now, long windowNanos) {
+            long window = now / windowNanos;
+            State current;
+            State updated;
+            do {
+                current = state.get();
+                State rotated = rotate(current, window);
+                updated = new State(window, rotated.previous(), rotated.current() + 1);
+            } while (!state.compareAndSet(current, updated));
+            return estimate(updated, now, windowNanos);
+        }
+
+        int estimate(long now, long windowNanos) {
+            return estimate(rotate(state.get(), now / windowNanos), now, windowNanos);
+        }
+
+        private static State rotate(State state, long window) {
+            if (state.window() == window) {
+                return state;
+            }
+            if (state.window() + 1 == window) {
+                return new State(window, state.current(), 0);
+            }
+            return new State(window, 0, 0);
+        }
+
+        private static int estimate(State state, long now, long windowNanos) {
+            double previousWeight = 1.0 - (double) (now % windowNanos) / windowNanos;
+            return (int) (state.previous() * previousWeight) + state.current();
+        }
+    }
+}
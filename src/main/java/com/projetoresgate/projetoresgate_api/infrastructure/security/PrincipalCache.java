@@ -0,0 +1,106 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
+import com.projetoresgate.projetoresgate_api.infrastructure.cache.CacheInvalidationPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cache dos usuários autenticados, indexado pelo subject do JWT (e-mail).
+ * Evita consultar {@code users} e {@code user_roles} a cada requisição autenticada.
+ * No modo stateless mantém apenas a tabela de versões de token usada para revogação.
+ * As invalidações também são avisadas às outras réplicas pelo {@link CacheInvalidationPublisher}.
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final Cache<String, UserDetailsImpl> principals;
+    private final Cache<UUID, Integer> tokenVersions;
+
+    public PrincipalCache(UserRepository userRepository,
+                          CacheInvalidationPublisher invalidationPublisher,
+                          MeterRegistry meterRegistry,
+                          @Value("${api.security.principal-cache.maximum-size:10000}") long maximumSize,
+                          @Value("${api.security.principal-cache.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.invalidationPublisher = invalidationPublisher;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.tokenVersions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "security.principals");
+        CaffeineCacheMetrics.monitor(meterRegistry, tokenVersions, "security.token-versions");
+    }
+
+    public Optional<UserDetailsImpl> findByEmail(String email) {
+        return Optional.ofNullable(principals.get(email, this::load));
+    }
+
+    public boolean isTokenVersionCurrent(UUID userId, int tokenVersion) {
+        Integer currentVersion = tokenVersions.get(userId, id -> userRepository.findTokenVersionById(id).orElse(null));
+        return currentVersion != null && currentVersion == tokenVersion;
+    }
+
+    public void invalidate(User user) {
+        String email = user.getEmail();
+        UUID userId = user.getId();
+        evict(userId, email);
+        invalidationPublisher.userChanged(userId, email);
+
+        // Remove novamente após o commit para não manter uma versão lida durante a transação
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userId, email);
+                }
+            });
+        }
+    }
+
+    /**
+     * Remove o usuário apenas deste cache local, sem avisar as outras réplicas.
+     */
+    public void evict(UUID userId, String email) {
+        if (email != null) {
+            principals.invalidate(email);
+        }
+        invalidateTokenVersion(userId);
+    }
+
+    public void invalidateAll() {
+        principals.invalidateAll();
+        tokenVersions.invalidateAll();
+    }
+
+    private void invalidateTokenVersion(UUID userId) {
+        if (userId != null) {
+            tokenVersions.invalidate(userId);
+        }
+    }
+
+    private UserDetailsImpl load(String email) {
+        return userRepository.findByEmail(email)
+                .map(UserDetailsImpl::new)
+                .orElse(null);
+    }
+}
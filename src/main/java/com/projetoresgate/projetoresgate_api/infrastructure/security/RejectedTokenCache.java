@@ -0,0 +1,48 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projetoresgate.projetoresgate_api.infrastructure.utils.TokenUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Guarda a impressão digital (SHA-256 truncado) dos tokens recusados recentemente,
+ * para que reenvios do mesmo token malformado, com assinatura inválida ou expirado não repitam a validação.
+ * Só entram aqui recusas que não mudam com o tempo; revogações dependem do estado de cada réplica e ficam de fora.
+ */
+@Component
+public class RejectedTokenCache {
+
+    // 22 caracteres em Base64 correspondem a ~128 bits do hash
+    private static final int FINGERPRINT_LENGTH = 22;
+
+    private final Cache<String, Boolean> rejectedTokens;
+
+    public RejectedTokenCache(MeterRegistry meterRegistry,
+                              @Value("${api.security.rejected-token-cache.maximum-size:10000}") long maximumSize,
+                              @Value("${api.security.rejected-token-cache.ttl:10m}") Duration ttl) {
+        this.rejectedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, rejectedTokens, "security.rejected-tokens");
+    }
+
+    public boolean isRejected(String token) {
+        return rejectedTokens.getIfPresent(fingerprint(token)) != null;
+    }
+
+    public void reject(String token) {
+        rejectedTokens.put(fingerprint(token), Boolean.TRUE);
+    }
+
+    private static String fingerprint(String token) {
+        return TokenUtils.hashToken(token).substring(0, FINGERPRINT_LENGTH);
+    }
+}
@@ -1,12 +1,15 @@
 package com.projetoresgate.projetoresgate_api.infrastructure.security;
 
-import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.core.user.domain.enums.UserRole;
 import com.projetoresgate.projetoresgate_api.infrastructure.services.TokenService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,6 +18,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -23,12 +30,17 @@ import static java.util.Objects.nonNull;
 public class SecurityFilter extends OncePerRequestFilter {
 
     private final TokenService tokenService;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final RejectedTokenCache rejectedTokenCache;
+
+    @Value("${api.security.token.stateless-principal:false}")
+    private boolean statelessPrincipal;
 
     @Autowired
-    public SecurityFilter(TokenService tokenService, UserRepository userRepository) {
+    public SecurityFilter(TokenService tokenService, PrincipalCache principalCache, RejectedTokenCache rejectedTokenCache) {
         this.tokenService = tokenService;
-        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.rejectedTokenCache = rejectedTokenCache;
     }
 
     @Override
@@ -37,15 +49,20 @@ public class SecurityFilter extends OncePerRequestFilter {
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
         try {
             String token = this.recoverToken(request);
-            if (nonNull(token)) {
-                String subject = tokenService.validateToken(token);
-                UserDetails userDetails = userRepository.findByEmail(subject)
-                        .map(UserDetailsImpl::new)
-                        .orElse(null);
-
-                if (nonNull(userDetails)) {
-                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+            // Tokens recusados recentemente seguem anônimos sem nova validação
+            if (nonNull(token) && !rejectedTokenCache.isRejected(token)) {
+                Optional<DecodedJWT> jwt = tokenService.verify(token);
+                // Sem as claims do principal (tokens emitidos antes do modo stateless) o token nunca será aceito
+                if (jwt.isEmpty() || (statelessPrincipal && !hasPrincipalClaims(jwt.get()))) {
+                    rejectedTokenCache.reject(token);
+                } else {
+                    // Falhas na busca do principal não vão para o cache: podem vir de um cache local
+                    // desatualizado ou de um usuário ainda não visível nesta réplica
+                    UserDetails userDetails = loadUserDetails(jwt.get());
+                    if (nonNull(userDetails)) {
+                        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    }
                 }
             }
         } catch (Exception e) {
@@ -55,6 +72,46 @@ public class SecurityFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails loadUserDetails(DecodedJWT jwt) {
+        return statelessPrincipal
+                ? loadFromClaims(jwt)
+                : principalCache.findByEmail(jwt.getSubject()).orElse(null);
+    }
+
+    private static boolean hasPrincipalClaims(DecodedJWT jwt) {
+        String userId = jwt.getClaim(TokenService.USER_ID_CLAIM).asString();
+        if (isNull(userId) || isNull(jwt.getClaim(TokenService.TOKEN_VERSION_CLAIM).asInt())
+                || isNull(jwt.getClaim(TokenService.ROLES_CLAIM).asList(String.class))) {
+            return false;
+        }
+        try {
+            UUID.fromString(userId);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private UserDetails loadFromClaims(DecodedJWT jwt) {
+        UUID userId = UUID.fromString(jwt.getClaim(TokenService.USER_ID_CLAIM).asString());
+        Integer tokenVersion = jwt.getClaim(TokenService.TOKEN_VERSION_CLAIM).asInt();
+
+        // Tokens revogados (troca de senha, novos papéis ou usuário excluído) não passam daqui
+        if (!principalCache.isTokenVersionCurrent(userId, tokenVersion)) {
+            return null;
+        }
+
+        Set<UserRole> roles = jwt.getClaim(TokenService.ROLES_CLAIM).asList(String.class).stream()
+                .map(UserRole::valueOf)
+                .collect(Collectors.toSet());
+
+        User user = new User();
+        user.setId(userId);
+        user.setEmail(jwt.getSubject());
+        user.setRoles(roles);
+        return new UserDetailsImpl(user);
+    }
+
     private String recoverToken(HttpServletRequest request) {
         var authHeader = request.getHeader("Authorization");
         if (isNull(authHeader)) return null;
@@ -0,0 +1,19 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.services;
+
+/**
+ * Forma de emitir e validar os tokens de uso único enviados por e-mail (confirmação e redefinição de senha).
+ */
+public enum ActionTokenMode {
+
+    /**
+     * O hash do token é gravado em {@code password_reset_tokens} / {@code email_confirmation_tokens}
+     * e removido quando o token é usado.
+     */
+    DATABASE,
+
+    /**
+     * O token é assinado com HMAC e carrega usuário, finalidade, validade e a impressão digital do estado
+     * do usuário; nenhuma tabela é escrita e o uso único vem da mudança desse estado.
+     */
+    SIGNED
+}
@@ -0,0 +1,148 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.services;
+
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Emite e valida tokens de ação ({@link ActionTokenMode#SIGNED}) sem estado no banco.
+ * <p>
+ * O token é {@code base64url(payload || HMAC-SHA256(payload))}, com o payload contendo versão, finalidade,
+ * id do usuário, validade e a impressão digital do estado do usuário que o uso do token altera (hash da senha
+ * para a redefinição, situação do e-mail para a confirmação). Depois de usado, a impressão digital deixa de
+ * corresponder e o token é recusado.
+ */
+@Service
+public class SignedActionTokenService {
+
+    public enum Purpose {
+        PASSWORD_RESET,
+        EMAIL_CONFIRMATION
+    }
+
+    public record Claims(UUID userId, Purpose purpose, Instant expiresAt, byte[] fingerprint) {
+
+        public boolean isExpired() {
+            return expiresAt.isBefore(Instant.now());
+        }
+    }
+
+    private static final byte VERSION = 1;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int FINGERPRINT_LENGTH = 16;
+    private static final int MAC_LENGTH = 32;
+    // versão + finalidade + UUID + validade (segundos) + impressão digital
+    private static final int PAYLOAD_LENGTH = 1 + 1 + 16 + 8 + FINGERPRINT_LENGTH;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String INVALID_TOKEN = "Token inválido ou não encontrado.";
+
+    private final ThreadLocal<Mac> mac;
+
+    public SignedActionTokenService(@Value("${api.security.token.secret}") String secret) {
+        // Chave derivada do segredo dos JWT, para que um tipo de token nunca valide como o outro
+        SecretKeySpec key = new SecretKeySpec(
+                hmac(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM),
+                        "projetoresgate-action-token".getBytes(StandardCharsets.UTF_8)),
+                ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> newMac(key));
+    }
+
+    public String issue(User user, Purpose purpose, Duration ttl) {
+        ByteBuffer buffer = ByteBuffer.allocate(PAYLOAD_LENGTH + MAC_LENGTH);
+        buffer.put(VERSION)
+                .put((byte) purpose.ordinal())
+                .putLong(user.getId().getMostSignificantBits())
+                .putLong(user.getId().getLeastSignificantBits())
+                .putLong(Instant.now().plus(ttl).getEpochSecond())
+                .put(fingerprint(user, purpose));
+        byte[] token = buffer.array();
+        Mac instance = mac.get();
+        instance.update(token, 0, PAYLOAD_LENGTH);
+        try {
+            instance.doFinal(token, PAYLOAD_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Erro ao assinar token de ação.", e);
+        }
+        return ENCODER.encodeToString(token);
+    }
+
+    /**
+     * Confere formato, assinatura e finalidade. A validade e a impressão digital ficam a cargo do chamador
+     * ({@link Claims#isExpired()} e {@link #isCurrent(Claims, User)}), que precisa das mensagens e do usuário.
+     */
+    public Claims verify(String token, Purpose purpose) {
+        byte[] decoded;
+        try {
+            decoded = token != null ? DECODER.decode(token) : null;
+        } catch (IllegalArgumentException e) {
+            decoded = null;
+        }
+        if (decoded == null || decoded.length != PAYLOAD_LENGTH + MAC_LENGTH) {
+            throw new InternalException(INVALID_TOKEN);
+        }
+
+        Mac instance = mac.get();
+        instance.update(decoded, 0, PAYLOAD_LENGTH);
+        byte[] expectedMac = instance.doFinal();
+        byte[] actualMac = Arrays.copyOfRange(decoded, PAYLOAD_LENGTH, decoded.length);
+        if (!MessageDigest.isEqual(expectedMac, actualMac)) {
+            throw new InternalException(INVALID_TOKEN);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(decoded, 0, PAYLOAD_LENGTH);
+        if (buffer.get() != VERSION || buffer.get() != purpose.ordinal()) {
+            throw new InternalException(INVALID_TOKEN);
+        }
+        UUID userId = new UUID(buffer.getLong(), buffer.getLong());
+        Instant expiresAt = Instant.ofEpochSecond(buffer.getLong());
+        byte[] fingerprint = new byte[FINGERPRINT_LENGTH];
+        buffer.get(fingerprint);
+        return new Claims(userId, purpose, expiresAt, fingerprint);
+    }
+
+    /**
+     * @return se o estado do usuário ainda é o mesmo de quando o token foi emitido (ou seja, se ele ainda não foi usado)
+     */
+    public boolean isCurrent(Claims claims, User user) {
+        return user.getId().equals(claims.userId())
+                && MessageDigest.isEqual(fingerprint(user, claims.purpose()), claims.fingerprint());
+    }
+
+    private byte[] fingerprint(User user, Purpose purpose) {
+        String state = switch (purpose) {
+            case PASSWORD_RESET -> user.getEmail() + '\0' + user.getPassword() + '\0' + user.getTokenVersion();
+            case EMAIL_CONFIRMATION -> user.getEmail() + '\0' + user.isEmailVerified();
+        };
+        Mac instance = mac.get();
+        instance.update((byte) purpose.ordinal());
+        return Arrays.copyOf(instance.doFinal(state.getBytes(StandardCharsets.UTF_8)), FINGERPRINT_LENGTH);
+    }
+
+    private static byte[] hmac(SecretKeySpec key, byte[] data) {
+        return newMac(key).doFinal(data);
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Erro ao inicializar o HMAC dos tokens de ação.", e);
+        }
+    }
+}
@@ -1,46 +1,135 @@
 package com.projetoresgate.projetoresgate_api.infrastructure.services;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Emite e valida os JWT da API. Assinador e verificadores são criados uma única vez;
+ * chaves antigas continuam aceitas (pelo header {@code kid}) durante a rotação.
+ */
 @Service
 public class TokenService {
 
-    @Value("${api.security.token.secret}")
-    private String secret;
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLES_CLAIM = "roles";
+    public static final String TOKEN_VERSION_CLAIM = "ver";
+
+    private static final String ISSUER = "projetoresgate_api";
+
+    private final String signingKeyId;
+    private final Algorithm signingAlgorithm;
+    private final JWTVerifier defaultVerifier;
+    private final Map<String, JWTVerifier> verifiersByKeyId;
+    private final Duration accessTokenTtl;
+
+    /**
+     * @param secret           segredo usado para assinar novos tokens
+     * @param signingKeyId     identificador ({@code kid}) do segredo atual
+     * @param previousSecrets  segredos ainda aceitos na validação, no formato {@code kid:segredo}
+     * @param accessTokenTtl   validade dos tokens de acesso; sessões longas usam o refresh token
+     */
+    public TokenService(@Value("${api.security.token.secret}") String secret,
+                        @Value("${api.security.token.key-id:default}") String signingKeyId,
+                        @Value("${api.security.token.previous-secrets:}") List<String> previousSecrets,
+                        @Value("${api.security.token.access-ttl:2h}") Duration accessTokenTtl) {
+        this.signingKeyId = signingKeyId;
+        this.accessTokenTtl = accessTokenTtl;
+        this.signingAlgorithm = Algorithm.HMAC256(secret);
+        this.defaultVerifier = buildVerifier(signingAlgorithm);
 
-    public String generateToken(String email) {
+        Map<String, JWTVerifier> verifiers = new HashMap<>();
+        verifiers.put(signingKeyId, defaultVerifier);
+        for (String entry : previousSecrets) {
+            int separator = entry.indexOf(':');
+            if (separator <= 0 || separator == entry.length() - 1) {
+                throw new IllegalStateException("Segredo anterior inválido, use o formato kid:segredo.");
+            }
+            verifiers.put(entry.substring(0, separator).trim(), buildVerifier(Algorithm.HMAC256(entry.substring(separator + 1).trim())));
+        }
+        this.verifiersByKeyId = Map.copyOf(verifiers);
+    }
+
+    public String generateToken(User user) {
         try{
-            Algorithm algorithm = Algorithm.HMAC256(secret);
             return JWT.create()
-                    .withIssuer("projetoresgate_api")
-                    .withSubject(email)
+                    .withKeyId(signingKeyId)
+                    .withIssuer(ISSUER)
+                    .withSubject(user.getEmail())
+                    .withClaim(USER_ID_CLAIM, user.getId().toString())
+                    .withClaim(ROLES_CLAIM, user.getRoles().stream().map(Enum::name).toList())
+                    .withClaim(TOKEN_VERSION_CLAIM, user.getTokenVersion())
                     .withExpiresAt(generateExpirationDate())
-                    .sign(algorithm);
+                    .sign(signingAlgorithm);
         } catch (JWTCreationException exception) {
             throw new RuntimeException("Error while generating token", exception);
         }
     }
 
-    public String validateToken(String token) throws JWTVerificationException {
+    /**
+     * @return o subject (e-mail) do token
+     * @throws InternalException se o token for inválido, expirado ou de uma chave desconhecida
+     */
+    public String validateToken(String token) {
+        return verify(token)
+                .map(DecodedJWT::getSubject)
+                .orElseThrow(() -> new InternalException("Token inválido ou expirado."));
+    }
+
+    /**
+     * Valida o token sem lançar exceção: tokens inválidos, expirados ou de chaves
+     * desconhecidas resultam em {@link Optional#empty()}.
+     */
+    public Optional<DecodedJWT> verify(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-            return JWT.require(algorithm).withIssuer("projetoresgate_api").build().verify(token).getSubject();
+            DecodedJWT decodedJWT = JWT.decode(token);
+
+            // Token expirado é rejeitado antes do cálculo do HMAC
+            Instant expiresAt = decodedJWT.getExpiresAtAsInstant();
+            if (nonNull(expiresAt) && expiresAt.isBefore(Instant.now())) {
+                return Optional.empty();
+            }
+
+            JWTVerifier verifier = resolveVerifier(decodedJWT.getKeyId());
+            if (isNull(verifier)) {
+                return Optional.empty();
+            }
+            return Optional.of(verifier.verify(decodedJWT));
         } catch (JWTVerificationException exception) {
-            throw new InternalException("Token inválido ou expirado.");
+            return Optional.empty();
+        }
+    }
+
+    private JWTVerifier resolveVerifier(String keyId) {
+        // Tokens emitidos antes da rotação não possuem kid e usam o segredo atual
+        if (isNull(keyId)) {
+            return defaultVerifier;
         }
+        return verifiersByKeyId.get(keyId);
+    }
+
+    private static JWTVerifier buildVerifier(Algorithm algorithm) {
+        return JWT.require(algorithm).withIssuer(ISSUER).build();
     }
 
     private Instant generateExpirationDate() {
-        return LocalDateTime.now().plusHours(2).toInstant(ZoneOffset.of("-03:00"));
+        return Instant.now().plus(accessTokenTtl);
     }
 }
@@ -0,0 +1,144 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.utils;
+
+import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor de CSV que consome a entrada registro a registro, sem carregar o arquivo em memória.
+ * <p>
+ * Aceita campos entre aspas (com {@code ""} como aspas literais e quebras de linha internas), fins de linha
+ * {@code \n} ou {@code \r\n} e o BOM gravado pelo Excel. O separador ({@code ,} ou {@code ;}) é o primeiro
+ * dos dois encontrado fora de aspas, já que planilhas exportadas em português costumam usar {@code ;}.
+ */
+public final class CsvReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_FIELD_LENGTH = 4096;
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private int separator = NONE;
+    private int pending = NONE;
+    private boolean started;
+    private long line = 1;
+    private long recordLine;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader, BUFFER_SIZE);
+    }
+
+    /**
+     * @return os campos do próximo registro, ou {@code null} no fim da entrada; linhas em branco são ignoradas
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            endOfLine(c);
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean fieldStarted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new InternalException("Aspas não fechadas no registro iniciado na linha " + recordLine + ".");
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following != '"') {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                append(c);
+            } else if (c == '"' && !fieldStarted) {
+                quoted = true;
+                fieldStarted = true;
+            } else if (isSeparator(c)) {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStarted = false;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                fields.add(field.toString());
+                if (c != -1) {
+                    endOfLine(c);
+                }
+                return fields;
+            } else {
+                append(c);
+                fieldStarted = true;
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Linha do arquivo (a partir de 1) em que começa o último registro devolvido por {@link #next()}.
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean isSeparator(int c) {
+        if (separator == NONE && (c == ',' || c == ';')) {
+            separator = c;
+        }
+        return c == separator;
+    }
+
+    private void append(int c) {
+        if (field.length() == MAX_FIELD_LENGTH) {
+            throw new InternalException("Campo com mais de " + MAX_FIELD_LENGTH + " caracteres no registro iniciado na linha " + recordLine + ".");
+        }
+        field.append((char) c);
+    }
+
+    // Consome o \n de um \r\n para que ele não conte como uma segunda quebra de linha
+    private void endOfLine(int c) throws IOException {
+        line++;
+        if (c == '\r') {
+            int following = read();
+            if (following != '\n') {
+                pending = following;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != NONE) {
+            int c = pending;
+            pending = NONE;
+            return c;
+        }
+        int c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+}
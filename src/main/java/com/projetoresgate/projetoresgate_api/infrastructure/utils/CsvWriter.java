@@ -0,0 +1,66 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Escreve registros CSV separados por vírgula, com fim de linha {@code \r\n}. Campos com vírgula, aspas ou
+ * quebras de linha são colocados entre aspas, no formato lido pelo {@link CsvReader}; o ponto e vírgula também,
+ * para que o arquivo seja lido corretamente por quem o abrir esperando esse separador.
+ */
+public final class CsvWriter {
+
+    private static final char SEPARATOR = ',';
+
+    private final Writer writer;
+
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * @param values campos do registro; {@code null} é escrito como campo vazio
+     */
+    public void writeRecord(String... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            writeField(values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        if (!needsQuotes(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == ';' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -3,32 +3,96 @@ package com.projetoresgate.projetoresgate_api.infrastructure.utils;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
 
 import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
 
+/**
+ * Geração e hash dos tokens opacos de confirmação de e-mail, redefinição de senha e renovação de sessão.
+ * <p>
+ * Cada thread reutiliza seu próprio {@link MessageDigest} e seus buffers, e a geração distribui as threads entre
+ * várias instâncias de {@link SecureRandom} para que não disputem o mesmo gerador sob concorrência.
+ */
 public class TokenUtils {
 
-    private static final SecureRandom secureRandom = new SecureRandom();
+    /**
+     * Tamanho, em bytes ASCII, do hash codificado em Base64 gravado por {@link #hashToken(byte[], int, int, byte[])}.
+     */
+    public static final int HASH_LENGTH = 44;
+
+    private static final int TOKEN_BYTES = 32;
+    private static final int DIGEST_BYTES = 32;
+
+    private static final SecureRandom[] secureRandoms = newSecureRandoms();
     private static final Base64.Encoder base64Encoder = Base64.getUrlEncoder();
+    private static final Base64.Encoder hashEncoder = Base64.getEncoder();
+    private static final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
 
     private TokenUtils() {
     }
 
     public static String generateSecureToken() {
-        byte[] randomBytes = new byte[32];
-        secureRandom.nextBytes(randomBytes);
+        byte[] randomBytes = new byte[TOKEN_BYTES];
+        secureRandom().nextBytes(randomBytes);
         return base64Encoder.encodeToString(randomBytes);
     }
 
     public static String hashToken(String token) {
+        byte[] bytes = token.getBytes(StandardCharsets.UTF_8);
+        byte[] encoded = buffers.get().encoded;
+        int length = hashToken(bytes, 0, bytes.length, encoded);
+        return new String(encoded, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Calcula o SHA-256 de {@code token[offset, offset + length)} e grava o resultado em Base64 no início de
+     * {@code out}, sem criar strings.
+     *
+     * @param out buffer com pelo menos {@link #HASH_LENGTH} posições, que pode ser reutilizado entre chamadas
+     * @return quantidade de bytes gravados em {@code out}, sempre {@link #HASH_LENGTH}
+     */
+    public static int hashToken(byte[] token, int offset, int length, byte[] out) {
+        Buffers current = buffers.get();
+        MessageDigest digest = current.digest;
+        digest.update(token, offset, length);
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(hash);
-        } catch (NoSuchAlgorithmException e) {
+            digest.digest(current.hash, 0, DIGEST_BYTES);
+        } catch (DigestException e) {
             throw new InternalException("Erro ao processar token de segurança.");
         }
+        return hashEncoder.encode(current.hash, out);
+    }
+
+    private static SecureRandom secureRandom() {
+        long id = Thread.currentThread().threadId();
+        // Espalha ids sequenciais entre as faixas
+        int stripe = (int) ((id * 0x9E3779B97F4A7C15L) >>> 32);
+        return secureRandoms[stripe & (secureRandoms.length - 1)];
+    }
+
+    private static SecureRandom[] newSecureRandoms() {
+        int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+        SecureRandom[] randoms = new SecureRandom[stripes];
+        for (int i = 0; i < stripes; i++) {
+            randoms[i] = new SecureRandom();
+        }
+        return randoms;
+    }
+
+    private static final class Buffers {
+
+        private final MessageDigest digest;
+        private final byte[] hash = new byte[DIGEST_BYTES];
+        private final byte[] encoded = new byte[HASH_LENGTH];
+
+        private Buffers() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new InternalException("Erro ao processar token de segurança.");
+            }
+        }
     }
 }
@@ -0,0 +1,57 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() é STABLE; o wrapper IMMUTABLE permite usá-lo em índices e colunas derivadas
+CREATE OR REPLACE FUNCTION immutable_unaccent(value TEXT) RETURNS TEXT
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS $$ SELECT public.unaccent('public.unaccent'::regdictionary, value) $$;
+
+-- Texto de busca normalizado (minúsculo e sem acentos) com nome, apelido, CPF e RG,
+-- separados por '|' para que um termo não case atravessando dois campos
+ALTER TABLE physical_persons ADD COLUMN IF NOT EXISTS search_text TEXT;
+
+CREATE OR REPLACE FUNCTION physical_persons_search_text(person_user_id UUID, cpf TEXT, rg TEXT) RETURNS TEXT
+    LANGUAGE sql STABLE
+AS $$
+    SELECT lower(immutable_unaccent(coalesce(u.name, '') || '|' || coalesce(u.nickname, '')))
+               || '|' || coalesce(cpf, '') || '|' || lower(coalesce(rg, ''))
+    FROM users u
+    WHERE u.id = person_user_id
+$$;
+
+CREATE OR REPLACE FUNCTION physical_persons_refresh_search_text() RETURNS TRIGGER
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    NEW.search_text := physical_persons_search_text(NEW.user_id, NEW.cpf, NEW.rg);
+    RETURN NEW;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_physical_persons_search_text ON physical_persons;
+CREATE TRIGGER trg_physical_persons_search_text
+    BEFORE INSERT OR UPDATE OF user_id, cpf, rg ON physical_persons
+    FOR EACH ROW EXECUTE FUNCTION physical_persons_refresh_search_text();
+
+CREATE OR REPLACE FUNCTION users_refresh_person_search_text() RETURNS TRIGGER
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    UPDATE physical_persons
+    SET search_text = physical_persons_search_text(user_id, cpf, rg)
+    WHERE user_id = NEW.id;
+    RETURN NULL;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS trg_users_person_search_text ON users;
+CREATE TRIGGER trg_users_person_search_text
+    AFTER UPDATE OF name, nickname ON users
+    FOR EACH ROW
+    WHEN (OLD.name IS DISTINCT FROM NEW.name OR OLD.nickname IS DISTINCT FROM NEW.nickname)
+    EXECUTE FUNCTION users_refresh_person_search_text();
+
+UPDATE physical_persons SET search_text = physical_persons_search_text(user_id, cpf, rg);
+
+CREATE INDEX IF NOT EXISTS idx_physical_persons_search_text ON physical_persons USING gin (search_text gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_physical_persons_cpf_trgm ON physical_persons USING gin (cpf gin_trgm_ops);
@@ -0,0 +1,6 @@
+-- Registros antigos sem data de criação ficariam fora da paginação por cursor
+UPDATE physical_persons SET date_created = coalesce(date_updated, now()) WHERE date_created IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_physical_persons_date_created_id
+    ON physical_persons (date_created DESC, id DESC)
+    WHERE deleted_at IS NULL;
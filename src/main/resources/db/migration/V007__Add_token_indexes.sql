@@ -0,0 +1,16 @@
+-- Hashes repetidos impediriam o índice único; mantém apenas um registro por hash
+DELETE FROM password_reset_tokens a
+    USING password_reset_tokens b
+    WHERE a.token_hash = b.token_hash AND a.ctid < b.ctid;
+
+DELETE FROM email_confirmation_tokens a
+    USING email_confirmation_tokens b
+    WHERE a.token_hash = b.token_hash AND a.ctid < b.ctid;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_password_reset_tokens_token_hash ON password_reset_tokens(token_hash);
+CREATE INDEX IF NOT EXISTS idx_password_reset_tokens_user_id ON password_reset_tokens(user_id);
+CREATE INDEX IF NOT EXISTS idx_password_reset_tokens_expiry_date ON password_reset_tokens(expiry_date);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_email_confirmation_tokens_token_hash ON email_confirmation_tokens(token_hash);
+CREATE INDEX IF NOT EXISTS idx_email_confirmation_tokens_user_id ON email_confirmation_tokens(user_id);
+CREATE INDEX IF NOT EXISTS idx_email_confirmation_tokens_expiry_date ON email_confirmation_tokens(expiry_date);
@@ -0,0 +1,21 @@
+-- As consultas de User e PhysicalPerson sempre filtram deleted_at IS NULL (@Where).
+-- Índices parciais deixam os registros excluídos logicamente fora dos índices mais acessados
+-- e permitem recadastrar o e-mail ou o CPF de um registro excluído.
+
+ALTER TABLE users DROP CONSTRAINT IF EXISTS users_email_key;
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_email_active
+    ON users (email)
+    WHERE deleted_at IS NULL;
+
+ALTER TABLE physical_persons DROP CONSTRAINT IF EXISTS physical_persons_cpf_key;
+DROP INDEX IF EXISTS idx_physical_persons_cpf;
+-- INCLUDE (id) atende existsByCpf/existsByCpfAndIdNot apenas com o índice
+CREATE UNIQUE INDEX IF NOT EXISTS ux_physical_persons_cpf_active
+    ON physical_persons (cpf) INCLUDE (id)
+    WHERE deleted_at IS NULL;
+
+ALTER TABLE physical_persons DROP CONSTRAINT IF EXISTS physical_persons_user_id_key;
+DROP INDEX IF EXISTS idx_physical_persons_user_id;
+CREATE UNIQUE INDEX IF NOT EXISTS ux_physical_persons_user_id_active
+    ON physical_persons (user_id)
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,7 @@
+-- Mensagens já concluídas não precisam do corpo, que contém links com tokens em texto puro
+UPDATE email_outbox SET html_content = '' WHERE status IN ('SENT', 'FAILED');
+
+-- Usado pela limpeza periódica das mensagens concluídas
+CREATE INDEX IF NOT EXISTS idx_email_outbox_completed
+    ON email_outbox (created_at)
+    WHERE status <> 'PENDING';
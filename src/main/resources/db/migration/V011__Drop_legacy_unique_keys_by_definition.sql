@@ -0,0 +1,34 @@
+-- V009 removia as restrições únicas antigas pelos nomes padrão do PostgreSQL (users_email_key etc.).
+-- Bancos criados pelo Hibernate usam nomes gerados (UK...), e nesses a remoção não fazia nada: o e-mail
+-- ou CPF de um registro excluído continuava bloqueado. Aqui são removidos, qualquer que seja o nome, as
+-- restrições e índices B-tree de coluna única que cobrem a tabela inteira em users(email),
+-- physical_persons(cpf) e physical_persons(user_id); os índices parciais de V009 não são afetados.
+DO $$
+DECLARE
+    target record;
+BEGIN
+    FOR target IN
+        SELECT x.indrelid::regclass AS table_name,
+               x.indexrelid::regclass AS index_name,
+               c.conname AS constraint_name
+        FROM pg_index x
+        JOIN pg_class t ON t.oid = x.indrelid
+        JOIN pg_class i ON i.oid = x.indexrelid
+        JOIN pg_am am ON am.oid = i.relam
+        JOIN pg_attribute a ON a.attrelid = t.oid AND a.attnum = x.indkey[0]
+        LEFT JOIN pg_constraint c ON c.conindid = x.indexrelid AND c.contype = 'u'
+        WHERE t.relnamespace = current_schema()::regnamespace
+          AND am.amname = 'btree'
+          AND x.indnatts = 1
+          AND x.indpred IS NULL
+          AND NOT x.indisprimary
+          AND (t.relname, a.attname) IN (('users', 'email'), ('physical_persons', 'cpf'), ('physical_persons', 'user_id'))
+    LOOP
+        IF target.constraint_name IS NOT NULL THEN
+            EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', target.table_name, target.constraint_name);
+        ELSE
+            EXECUTE format('DROP INDEX %s', target.index_name);
+        END IF;
+    END LOOP;
+END
+$$;
@@ -2,12 +2,19 @@ package com.projetoresgate.projetoresgate_api.core.physicalperson.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.projetoresgate.projetoresgate_api.config.security.WithMockCustomUser;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonImportResponse;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonResponse;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.enums.Gender;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Rg;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Cpf;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.*;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.command.UpdatePhysicalPersonCommand;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.PhysicalPersonCursor;
 import com.projetoresgate.projetoresgate_api.core.user.domain.User;
 import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.PrincipalCache;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.RejectedTokenCache;
 import com.projetoresgate.projetoresgate_api.infrastructure.security.SecurityConfigurations;
 import com.projetoresgate.projetoresgate_api.infrastructure.services.TokenService;
 import org.junit.jupiter.api.DisplayName;
@@ -15,18 +22,32 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(PhysicalPersonController.class)
@@ -66,6 +87,16 @@ class PhysicalPersonControllerTest {
 
     @MockitoBean
     private UserRepository userRepository;
+    @MockitoBean
+    private PrincipalCache principalCache;
+    @MockitoBean
+    private RejectedTokenCache rejectedTokenCache;
+    @MockitoBean
+    private ScrollPhysicalPersonUseCase scrollUseCase;
+    @MockitoBean
+    private ImportPhysicalPersonUseCase importUseCase;
+    @MockitoBean
+    private ExportPhysicalPersonUseCase exportUseCase;
 
     @Test
     @WithMockCustomUser
@@ -96,4 +127,118 @@ class PhysicalPersonControllerTest {
                         .with(csrf()))
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    @WithMockCustomUser
+    @DisplayName("GET /physical-person/scroll - Deve retornar o cursor da próxima página quando houver mais registros")
+    void scroll_ShouldReturnNextCursor_whenHasNext() throws Exception {
+        User user = User.create("test@test.com", "pass1234", "Name", null);
+        user.setId(UUID.randomUUID());
+        PhysicalPerson person = PhysicalPerson.create(user, new Cpf("51086174968"), null, null, null, null, null);
+        person.setId(UUID.randomUUID());
+        person.setDateCreated(LocalDateTime.of(2024, 5, 10, 8, 30));
+
+        when(scrollUseCase.handle(any())).thenReturn(new SliceImpl<>(List.of(person), PageRequest.of(0, 1), true));
+
+        mockMvc.perform(get("/physical-person/scroll").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.content[0].id").value(person.getId().toString()))
+                .andExpect(jsonPath("$.nextCursor").value(PhysicalPersonCursor.of(person).encode()));
+    }
+
+    @Test
+    @WithMockCustomUser
+    @DisplayName("GET /physical-person/scroll - Deve retornar 400 Bad Request para cursor inválido")
+    void scroll_ShouldReturn400_whenCursorIsInvalid() throws Exception {
+        mockMvc.perform(get("/physical-person/scroll").param("after", "invalido"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockCustomUser
+    @DisplayName("POST /physical-person/import - Deve retornar o relatório da importação")
+    void import_ShouldReturnReport() throws Exception {
+        PhysicalPersonImportResponse report = new PhysicalPersonImportResponse(2, 1, 1,
+                List.of(new PhysicalPersonImportResponse.RowError(3, "11111111111", "b@test.com", "O CPF informado é inválido.")));
+        when(importUseCase.handle(any())).thenReturn(report);
+
+        mockMvc.perform(post("/physical-person/import")
+                        .with(csrf())
+                        .contentType("text/csv")
+                        .content("name;email;cpf\nAna;a@test.com;51086174968\nBia;b@test.com;11111111111\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedRows").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].message").value("O CPF informado é inválido."));
+    }
+
+    @Test
+    @DisplayName("POST /physical-person/import - Deve exigir autenticação")
+    void import_ShouldReturn401_whenNotAuthenticated() throws Exception {
+        mockMvc.perform(post("/physical-person/import")
+                        .with(csrf())
+                        .contentType("text/csv")
+                        .content("name;email;cpf\n"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockCustomUser
+    @DisplayName("GET /physical-person/export - Deve enviar as pessoas em CSV, com aspas quando necessário")
+    void export_ShouldStreamCsv() throws Exception {
+        PhysicalPersonResponse person = exportedPerson();
+        doAnswer(invocation -> {
+            invocation.<Consumer<PhysicalPersonResponse>>getArgument(1).accept(person);
+            return null;
+        }).when(exportUseCase).handle(any(), any());
+
+        var result = mockMvc.perform(get("/physical-person/export").param("gender", "FEMALE"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"pessoas-fisicas.csv\""))
+                .andExpect(content().string(
+                        "id,userId,name,email,nickname,rg,cpf,birthDate,phone,cellphone,gender\r\n"
+                                + person.id() + "," + person.userId() + ",\"Souza, Ana\",ana@test.com,,123456789,51086174968,1990-05-10,,11999998888,FEMALE\r\n"));
+    }
+
+    @Test
+    @WithMockCustomUser
+    @DisplayName("GET /physical-person/export - Deve enviar um objeto JSON por linha no formato NDJSON")
+    void export_ShouldStreamNdjson() throws Exception {
+        PhysicalPersonResponse person = exportedPerson();
+        doAnswer(invocation -> {
+            Consumer<PhysicalPersonResponse> consumer = invocation.getArgument(1);
+            consumer.accept(person);
+            consumer.accept(person);
+            return null;
+        }).when(exportUseCase).handle(any(), any());
+
+        var result = mockMvc.perform(get("/physical-person/export").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String line = objectMapper.writeValueAsString(person);
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(content().string(line + "\n" + line + "\n"));
+    }
+
+    @Test
+    @WithMockCustomUser
+    @DisplayName("GET /physical-person/export - Deve retornar 400 Bad Request para formato inválido")
+    void export_ShouldReturn400_whenFormatIsInvalid() throws Exception {
+        mockMvc.perform(get("/physical-person/export").param("format", "xlsx"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static PhysicalPersonResponse exportedPerson() {
+        return new PhysicalPersonResponse(UUID.randomUUID(), UUID.randomUUID(), "Souza, Ana", "ana@test.com", null,
+                new Rg("12.345.678-9"), new Cpf("51086174968"), LocalDate.of(1990, 5, 10), null, "11999998888", Gender.FEMALE);
+    }
 }
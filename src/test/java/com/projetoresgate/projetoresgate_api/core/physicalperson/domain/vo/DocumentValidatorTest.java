@@ -0,0 +1,66 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DocumentValidator - Test")
+class DocumentValidatorTest {
+
+    @Test
+    @DisplayName("Deve devolver a própria string quando o CPF já estiver normalizado")
+    void normalizeCpf_ShouldReturnSameInstance_whenAlreadyNormalized() {
+        String cpf = "51086174968";
+        assertSame(cpf, DocumentValidator.normalizeCpf(cpf));
+    }
+
+    @Test
+    @DisplayName("Deve normalizar CPF formatado, inclusive com zeros à esquerda e a partir de um StringBuilder")
+    void normalizeCpf_ShouldKeepOnlyDigits() {
+        assertEquals("51086174968", DocumentValidator.normalizeCpf("510.861.749-68"));
+        assertEquals("04744286054", DocumentValidator.normalizeCpf(new StringBuilder(" 047.442.860-54 ")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"12345678901", "00000000000", "99999999999", "123", "", "510.861.749-680", "5108617496a"})
+    @DisplayName("Deve rejeitar CPFs inválidos")
+    void isValidCpf_ShouldRejectInvalidCpf(String cpf) {
+        assertFalse(DocumentValidator.isValidCpf(cpf));
+        assertNull(DocumentValidator.normalizeCpf(cpf));
+    }
+
+    @Test
+    @DisplayName("Deve normalizar RG mantendo apenas letras e dígitos em maiúsculas")
+    void normalizeRg_ShouldCleanAndUppercase() {
+        String normalized = "7068613A";
+        assertSame(normalized, DocumentValidator.normalizeRg(normalized));
+        assertEquals("7068613A", DocumentValidator.normalizeRg("7.068-613a"));
+        assertEquals("MG14808688", DocumentValidator.normalizeRg("mg-14.808.688"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1234", "1.2.3.4", "1234567890123456", "ção-12"})
+    @DisplayName("Deve rejeitar RGs com tamanho inválido após a limpeza")
+    void normalizeRg_ShouldRejectInvalidLength(String rg) {
+        assertFalse(DocumentValidator.isValidRg(rg));
+        assertNull(DocumentValidator.normalizeRg(rg));
+    }
+
+    @Test
+    @DisplayName("Deve validar lotes de documentos informando o resultado de cada posição")
+    void validateBatch_ShouldFillResults() {
+        CharSequence[] cpfs = {"510.861.749-68", "11111111111", null, "04744286054"};
+        boolean[] cpfResults = new boolean[cpfs.length];
+        CharSequence[] rgs = {"12.345.678-9", "123", null};
+        boolean[] rgResults = new boolean[rgs.length];
+
+        assertEquals(2, DocumentValidator.validateCpfs(cpfs, cpfResults));
+        assertArrayEquals(new boolean[]{true, false, false, true}, cpfResults);
+        assertEquals(1, DocumentValidator.validateRgs(rgs, rgResults));
+        assertArrayEquals(new boolean[]{true, false, false}, rgResults);
+        assertThrows(IllegalArgumentException.class, () -> DocumentValidator.validateCpfs(cpfs, new boolean[1]));
+    }
+}
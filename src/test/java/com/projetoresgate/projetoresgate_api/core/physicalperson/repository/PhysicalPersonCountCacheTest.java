@@ -0,0 +1,33 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.repository;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.PhysicalPersonCountMode;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.SearchPhysicalPersonQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("PhysicalPersonCountCache - Test")
+class PhysicalPersonCountCacheTest {
+
+    private final PhysicalPersonCountCache countCache = new PhysicalPersonCountCache(new SimpleMeterRegistry(), Duration.ofMinutes(1), 100);
+
+    @Test
+    @DisplayName("Deve reaproveitar o total para filtros equivalentes em páginas diferentes")
+    void count_shouldReuseTotal_forEquivalentFilters() {
+        AtomicInteger executions = new AtomicInteger();
+        SearchPhysicalPersonQuery firstPage = new SearchPhysicalPersonQuery("Ana ", null, null, null, null, PageRequest.of(0, 10), PhysicalPersonCountMode.APPROX);
+        SearchPhysicalPersonQuery secondPage = new SearchPhysicalPersonQuery("ana", null, null, null, null, PageRequest.of(1, 10), PhysicalPersonCountMode.APPROX);
+        SearchPhysicalPersonQuery otherFilter = new SearchPhysicalPersonQuery("bruno", null, null, null, null, PageRequest.of(0, 10), PhysicalPersonCountMode.APPROX);
+
+        assertEquals(7L, countCache.count(firstPage, () -> executions.incrementAndGet() * 7L));
+        assertEquals(7L, countCache.count(secondPage, () -> executions.incrementAndGet() * 7L));
+        assertEquals(14L, countCache.count(otherFilter, () -> executions.incrementAndGet() * 7L));
+        assertEquals(2, executions.get());
+    }
+}
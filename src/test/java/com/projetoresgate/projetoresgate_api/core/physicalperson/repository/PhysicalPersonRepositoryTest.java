@@ -0,0 +1,153 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.repository;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonResponse;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Cpf;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.ExportPhysicalPersonQuery;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.PhysicalPersonCountMode;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.ScrollPhysicalPersonQuery;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.SearchPhysicalPersonQuery;
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("PhysicalPersonRepository - Test")
+class PhysicalPersonRepositoryTest {
+
+    private static final int TOTAL = 25;
+
+    @Autowired
+    private PhysicalPersonRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < TOTAL; i++) {
+            User user = User.create("pessoa" + i + "@example.com", "encodedPassword", "Pessoa " + i, null);
+            entityManager.persist(PhysicalPerson.create(user, new Cpf(validCpf(100000000 + i)), null, null, null, null, null));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Deve executar o mesmo número de consultas por página, independente do tamanho")
+    void findAll_shouldUseConstantQueryCount_whenMappingPages() {
+        Specification<PhysicalPerson> spec = PhysicalPersonSpecifications.search(query("pessoa"), PhysicalPersonSearchEngine.CRITERIA);
+
+        long smallPage = countStatements(size -> repository.findAll(spec, PageRequest.of(0, size)).getContent());
+        long largePage = countStatements(size -> repository.findAll(spec, PageRequest.of(0, size * 2)).getContent());
+
+        // Página, count e os papéis dos usuários em lote
+        assertEquals(3, smallPage);
+        assertEquals(smallPage, largePage);
+    }
+
+    @Test
+    @DisplayName("Deve executar o mesmo número de consultas por fatia sem count")
+    void findSlice_shouldUseConstantQueryCount_whenMappingSlices() {
+        Specification<PhysicalPerson> spec = PhysicalPersonSpecifications.search(query(null), PhysicalPersonSearchEngine.CRITERIA);
+
+        long smallSlice = countStatements(size -> repository.findSlice(spec, PageRequest.of(0, size)).getContent());
+        long largeSlice = countStatements(size -> repository.findSlice(spec, PageRequest.of(0, size * 2)).getContent());
+
+        assertEquals(2, smallSlice);
+        assertEquals(smallSlice, largeSlice);
+    }
+
+    @Test
+    @DisplayName("Deve executar o mesmo número de consultas por página de cursor")
+    void findBy_shouldUseConstantQueryCount_whenScrolling() {
+        Specification<PhysicalPerson> spec = PhysicalPersonSpecifications.search(
+                new ScrollPhysicalPersonQuery(null, null, null, null, null, null, 10), PhysicalPersonSearchEngine.CRITERIA);
+
+        long smallPage = countStatements(size -> repository.findBy(spec,
+                q -> q.sortBy(PhysicalPersonSpecifications.KEYSET_SORT).limit(size + 1).all()));
+        long largePage = countStatements(size -> repository.findBy(spec,
+                q -> q.sortBy(PhysicalPersonSpecifications.KEYSET_SORT).limit(size * 2 + 1).all()));
+
+        assertEquals(2, smallPage);
+        assertEquals(smallPage, largePage);
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todos os registros filtrados em uma única consulta, sem carregar entidades")
+    void scrollResponses_shouldReadAllRowsWithSingleStatement() {
+        Specification<PhysicalPerson> spec = PhysicalPersonSpecifications.filters(
+                new ExportPhysicalPersonQuery("pessoa", null, null, null, null), PhysicalPersonSearchEngine.CRITERIA);
+        entityManager.clear();
+        statistics.clear();
+
+        List<PhysicalPersonResponse> responses = new ArrayList<>();
+        repository.scrollResponses(spec, PhysicalPersonSpecifications.KEYSET_SORT, 4, responses::add);
+
+        assertEquals(TOTAL, responses.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertTrue(responses.stream().allMatch(response -> response.cpf().getValue() != null && response.email() != null));
+        List<PhysicalPersonResponse> ordered = repository.findAll(PhysicalPersonSpecifications.KEYSET_SORT).stream()
+                .map(PhysicalPersonResponse::fromEntity)
+                .toList();
+        assertEquals(ordered.stream().map(PhysicalPersonResponse::id).toList(), responses.stream().map(PhysicalPersonResponse::id).toList());
+    }
+
+    // Carrega a página e monta as respostas, como o controller faz, contando os statements preparados
+    private long countStatements(Function<Integer, List<PhysicalPerson>> loader) {
+        entityManager.clear();
+        statistics.clear();
+
+        List<PhysicalPersonResponse> responses = loader.apply(10).stream()
+                .map(PhysicalPersonResponse::fromEntity)
+                .toList();
+
+        assertFalse(responses.isEmpty());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static SearchPhysicalPersonQuery query(String searchTerm) {
+        return new SearchPhysicalPersonQuery(searchTerm, null, null, null, null, PageRequest.of(0, 10), PhysicalPersonCountMode.EXACT);
+    }
+
+    private static String validCpf(int base) {
+        String digits = String.valueOf(base).substring(0, 9);
+        int d1 = checkDigit(digits, 10);
+        int d2 = checkDigit(digits + d1, 11);
+        return digits + d1 + d2;
+    }
+
+    private static int checkDigit(String digits, int weight) {
+        int sum = 0;
+        for (char c : digits.toCharArray()) {
+            sum += Character.getNumericValue(c) * weight--;
+        }
+        int result = 11 - (sum % 11);
+        return result > 9 ? 0 : result;
+    }
+}
@@ -9,6 +9,7 @@ import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository
 import com.projetoresgate.projetoresgate_api.core.user.usecase.CreateUserUseCase;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.command.CreateUserCommand;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.PrincipalCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,6 +37,9 @@ class CreatePhysicalPersonServiceTest {
     @Mock
     private CreateUserUseCase createUserUseCase;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     @InjectMocks
     private CreatePhysicalPersonService service;
 
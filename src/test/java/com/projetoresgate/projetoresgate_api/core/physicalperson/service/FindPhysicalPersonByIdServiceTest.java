@@ -1,5 +1,6 @@
 package com.projetoresgate.projetoresgate_api.core.physicalperson.service;
 
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonResponse;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Cpf;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonRepository;
@@ -38,10 +39,10 @@ class FindPhysicalPersonByIdServiceTest {
 
         when(repository.findByIdOrThrow(id)).thenReturn(person);
 
-        PhysicalPerson found = service.handle(query);
+        PhysicalPersonResponse found = service.handle(query);
 
         assertNotNull(found);
-        assertEquals(person, found);
+        assertEquals(PhysicalPersonResponse.fromEntity(person), found);
         verify(repository).findByIdOrThrow(id);
     }
 
@@ -1,5 +1,6 @@
 package com.projetoresgate.projetoresgate_api.core.physicalperson.service;
 
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonResponse;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Cpf;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonRepository;
@@ -40,11 +41,11 @@ class FindPhysicalPersonByUserIdServiceTest {
 
         when(repository.findByUserIdOrThrow(userId)).thenReturn(person);
 
-        PhysicalPerson found = service.handle(query);
+        PhysicalPersonResponse found = service.handle(query);
 
         assertNotNull(found);
-        assertNotNull(found.getId());
-        assertEquals(person, found);
+        assertEquals(person.getId(), found.id());
+        assertEquals("Name", found.name());
         verify(repository).findByUserIdOrThrow(userId);
     }
 
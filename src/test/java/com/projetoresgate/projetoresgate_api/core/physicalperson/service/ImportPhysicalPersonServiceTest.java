@@ -0,0 +1,205 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.service;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonImportResponse;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonImportResponse.RowError;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Cpf;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonBatchWriter;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonRepository;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.command.ImportPhysicalPersonCommand;
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.core.user.domain.enums.UserRole;
+import com.projetoresgate.projetoresgate_api.core.user.repository.EmailConfirmationTokenRepository;
+import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
+import com.projetoresgate.projetoresgate_api.core.user.service.RequestEmailConfirmationService;
+import com.projetoresgate.projetoresgate_api.infrastructure.cache.CacheInvalidationPublisher;
+import com.projetoresgate.projetoresgate_api.infrastructure.email.EmailOutboxDispatcher;
+import com.projetoresgate.projetoresgate_api.infrastructure.email.EmailOutboxRepository;
+import com.projetoresgate.projetoresgate_api.infrastructure.email.EmailTemplateEngine;
+import com.projetoresgate.projetoresgate_api.infrastructure.email.JavaMailEmailService;
+import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+import com.projetoresgate.projetoresgate_api.infrastructure.services.ActionTokenMode;
+import com.projetoresgate.projetoresgate_api.infrastructure.services.SignedActionTokenService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ImportPhysicalPersonService - Test")
+class ImportPhysicalPersonServiceTest {
+
+    private static final String HEADER = "name;email;cpf;rg;birthDate;gender;phone\n";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PhysicalPersonRepository repository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmailConfirmationTokenRepository emailConfirmationTokenRepository;
+
+    @Autowired
+    private EmailOutboxRepository outboxRepository;
+
+    private JdbcTemplate jdbcTemplate;
+    private EmailOutboxDispatcher dispatcher;
+    private CacheInvalidationPublisher invalidationPublisher;
+    private MeterRegistry meterRegistry;
+    private ImportPhysicalPersonService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        dispatcher = mock(EmailOutboxDispatcher.class);
+        invalidationPublisher = mock(CacheInvalidationPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        RequestEmailConfirmationService requestEmailConfirmationService = new RequestEmailConfirmationService(
+                userRepository,
+                emailConfirmationTokenRepository,
+                new JavaMailEmailService(outboxRepository, dispatcher),
+                new EmailTemplateEngine("http://localhost:5173"),
+                new SignedActionTokenService("test-secret"),
+                ActionTokenMode.DATABASE);
+        service = new ImportPhysicalPersonService(
+                repository,
+                userRepository,
+                new PhysicalPersonBatchWriter(jdbcTemplate, entityManagerFactory, invalidationPublisher),
+                requestEmailConfirmationService,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                transactionManager,
+                meterRegistry,
+                2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Remoção física: a exclusão pelos repositórios é lógica e deixaria CPFs e e-mails para os outros testes
+        for (String table : List.of("physical_persons", "email_confirmation_tokens", "email_outbox", "user_roles", "users")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gravar as linhas válidas em lotes e enfileirar os e-mails de confirmação")
+    void handle_shouldImportValidRowsAndQueueConfirmationEmails() {
+        String csv = HEADER
+                + "Ana Souza;ana@example.com;390.533.447-05;12.345.678-9;10/05/1990;female;\n"
+                + "Bia Lima;bia@example.com;12345678909;;1985-01-31;;(11) 3333-4444\n"
+                + "Caio Rocha;caio@example.com;98765432100;;;OTHER;\n";
+
+        PhysicalPersonImportResponse report = service.handle(command(csv));
+
+        assertEquals(new PhysicalPersonImportResponse(3, 3, 0, List.of()), report);
+        PhysicalPerson ana = repository.findAll().stream()
+                .filter(person -> person.getCpf().getValue().equals("39053344705"))
+                .findFirst().orElseThrow();
+        User user = userRepository.findById(ana.getUser().getId()).orElseThrow();
+        assertEquals("ana@example.com", user.getEmail());
+        assertTrue(user.getRoles().containsAll(List.of(UserRole.USER, UserRole.PHYSICAL_PERSON)));
+        assertEquals("123456789", ana.getRg().getValue());
+        assertEquals(3, emailConfirmationTokenRepository.count());
+        assertEquals(3, outboxRepository.count());
+        // Um acionamento por lote, e não por linha
+        verify(dispatcher, times(2)).wakeUp();
+        // As outras réplicas descartam o cache de consultas a cada lote gravado
+        verify(invalidationPublisher, times(2)).queryResultsChanged();
+        assertEquals(3, meterRegistry.get("physical-person.import.rows").tag("result", "imported").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar linhas inválidas, repetidas ou já cadastradas informando a linha e o motivo")
+    void handle_shouldReportRejectedRows() {
+        User existing = User.create("existente@example.com", null, "Existente", null);
+        userRepository.save(existing);
+        repository.save(PhysicalPerson.create(User.create("outro@example.com", null, "Outro", null),
+                new Cpf("11144477735"), null, null, null, null, null));
+
+        String csv = HEADER
+                + "Ana Souza;ana@example.com;39053344705;;;;\n"
+                + "CPF Inválido;invalido@example.com;11111111111;;;;\n"
+                + "Repetida;repetida@example.com;390.533.447-05;;;;\n"
+                + "Já Cadastrada;nova@example.com;11144477735;;;;\n"
+                + "E-mail Cadastrado;existente@example.com;12345678909;;;;\n"
+                + "Sem E-mail;;98765432100;;;;\n"
+                + "Data Ruim;data@example.com;52998224725;;31/02/2000;;\n";
+
+        PhysicalPersonImportResponse report = service.handle(command(csv));
+
+        assertEquals(7, report.totalRows());
+        assertEquals(1, report.importedRows());
+        assertEquals(6, report.rejectedRows());
+        assertEquals(List.of(
+                new RowError(3, "11111111111", "invalido@example.com", "O CPF informado é inválido."),
+                new RowError(4, "39053344705", "repetida@example.com", "CPF repetido no arquivo."),
+                new RowError(5, "11144477735", "nova@example.com", "Já existe uma pessoa cadastrada com este CPF."),
+                new RowError(7, "98765432100", null, "O e-mail é obrigatório"),
+                new RowError(8, "52998224725", "data@example.com", "Data de nascimento inválida; use dd/MM/aaaa ou aaaa-MM-dd."),
+                new RowError(6, "12345678909", "existente@example.com", "Este e-mail já está cadastrado.")
+        ), report.errors());
+    }
+
+    @Test
+    @DisplayName("Deve isolar a linha que falhar na gravação sem descartar o restante do lote")
+    void handle_shouldRejectOnlyFailingRow_whenBatchWriteFails() {
+        String csv = HEADER
+                + "Ana Souza;ana@example.com;39053344705;;;;\n"
+                + "B".repeat(300) + ";bia@example.com;12345678909;;;;\n";
+
+        PhysicalPersonImportResponse report = service.handle(command(csv));
+
+        assertEquals(1, report.importedRows());
+        assertEquals(1, report.rejectedRows());
+        assertEquals(3, report.errors().getFirst().line());
+        assertEquals(1, repository.count());
+        assertEquals(1, outboxRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando o cabeçalho não tiver as colunas obrigatórias")
+    void handle_shouldThrow_whenRequiredColumnIsMissing() {
+        InternalException exception = assertThrows(InternalException.class,
+                () -> service.handle(command("name;email\nAna;ana@example.com\n")));
+
+        assertEquals("Colunas obrigatórias ausentes no cabeçalho: cpf.", exception.getMessage());
+    }
+
+    private static ImportPhysicalPersonCommand command(String csv) {
+        return new ImportPhysicalPersonCommand(new StringReader(csv));
+    }
+}
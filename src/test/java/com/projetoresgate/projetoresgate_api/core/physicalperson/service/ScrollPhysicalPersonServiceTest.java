@@ -0,0 +1,66 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.service;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonRepository;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonSearchEngine;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.PhysicalPersonCursor;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.ScrollPhysicalPersonQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScrollPhysicalPersonService - Test")
+class ScrollPhysicalPersonServiceTest {
+
+    @Mock
+    private PhysicalPersonRepository repository;
+
+    private ScrollPhysicalPersonService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ScrollPhysicalPersonService(repository, PhysicalPersonSearchEngine.CRITERIA);
+    }
+
+    @Test
+    @DisplayName("Deve indicar próxima página e descartar o registro excedente")
+    @SuppressWarnings("unchecked")
+    void handle_shouldReturnSliceWithNext_whenMoreRowsThanSize() {
+        List<PhysicalPerson> rows = List.of(mock(PhysicalPerson.class), mock(PhysicalPerson.class), mock(PhysicalPerson.class));
+        when(repository.findBy(any(Specification.class), any())).thenReturn(rows);
+
+        Slice<PhysicalPerson> slice = service.handle(new ScrollPhysicalPersonQuery(null, null, null, null, null, null, 2));
+
+        assertTrue(slice.hasNext());
+        assertEquals(rows.subList(0, 2), slice.getContent());
+    }
+
+    @Test
+    @DisplayName("Deve indicar última página quando vierem até size registros")
+    @SuppressWarnings("unchecked")
+    void handle_shouldReturnLastSlice_whenRowsFitInSize() {
+        PhysicalPersonCursor cursor = new PhysicalPersonCursor(LocalDateTime.of(2024, 5, 10, 8, 30), UUID.randomUUID());
+        List<PhysicalPerson> rows = List.of(mock(PhysicalPerson.class));
+        when(repository.findBy(any(Specification.class), any())).thenReturn(rows);
+
+        Slice<PhysicalPerson> slice = service.handle(new ScrollPhysicalPersonQuery(null, null, null, null, null, cursor, 2));
+
+        assertFalse(slice.hasNext());
+        assertEquals(rows, slice.getContent());
+        verify(repository, never()).count(any(Specification.class));
+    }
+}
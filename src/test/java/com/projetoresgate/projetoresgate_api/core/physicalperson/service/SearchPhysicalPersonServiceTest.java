@@ -1,30 +1,37 @@
 package com.projetoresgate.projetoresgate_api.core.physicalperson.service;
 
+import com.projetoresgate.projetoresgate_api.core.physicalperson.api.dto.PhysicalPersonResponse;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.enums.Gender;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Cpf;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Rg;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonCountCache;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonRepository;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonSearchEngine;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.PhysicalPersonCountMode;
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query.SearchPhysicalPersonQuery;
 import com.projetoresgate.projetoresgate_api.core.user.domain.User;
 import jakarta.persistence.criteria.*;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -37,6 +44,9 @@ class SearchPhysicalPersonServiceTest {
     @Mock
     private PhysicalPersonRepository repository;
 
+    @Mock
+    private PhysicalPersonCountCache countCache;
+
     @Mock
     private Root<PhysicalPerson> root;
 
@@ -61,22 +71,26 @@ class SearchPhysicalPersonServiceTest {
     @Captor
     private ArgumentCaptor<Specification<PhysicalPerson>> specCaptor;
 
-    @InjectMocks
     private SearchPhysicalPersonService service;
 
+    @BeforeEach
+    void setUp() {
+        service = new SearchPhysicalPersonService(repository, countCache, PhysicalPersonSearchEngine.CRITERIA);
+    }
+
     @Test
     @DisplayName("Deve buscar pessoas físicas com paginação")
     @SuppressWarnings("unchecked")
     void handle_ShouldSearchWithPagination() {
         Pageable pageable = PageRequest.of(0, 10);
-        SearchPhysicalPersonQuery searchQuery = new SearchPhysicalPersonQuery(null, null, null, null, null, pageable);
+        SearchPhysicalPersonQuery searchQuery = new SearchPhysicalPersonQuery(null, null, null, null, null, pageable, PhysicalPersonCountMode.EXACT);
         Page<PhysicalPerson> expectedPage = new PageImpl<>(List.of());
 
         when(repository.findAll(any(Specification.class), eq(pageable))).thenReturn(expectedPage);
 
-        Page<PhysicalPerson> result = service.handle(searchQuery);
+        Slice<PhysicalPersonResponse> result = service.handle(searchQuery);
 
-        assertEquals(expectedPage, result);
+        assertEquals(expectedPage.map(PhysicalPersonResponse::fromEntity), result);
         verify(repository).findAll(any(Specification.class), eq(pageable));
     }
 
@@ -84,7 +98,7 @@ class SearchPhysicalPersonServiceTest {
     @DisplayName("Deve construir a Specification corretamente quando houver termo de busca")
     void handle_ShouldBuildSpecificationWithSearchTerm() {
         Pageable pageable = PageRequest.of(0, 10);
-        SearchPhysicalPersonQuery searchQuery = new SearchPhysicalPersonQuery("Ana 123", null, null, null, null, pageable);
+        SearchPhysicalPersonQuery searchQuery = new SearchPhysicalPersonQuery("Ana 123", null, null, null, null, pageable, PhysicalPersonCountMode.EXACT);
 
         doReturn(userJoin).when(root).join("user");
         doReturn(path).when(userJoin).get(anyString());
@@ -97,6 +111,8 @@ class SearchPhysicalPersonServiceTest {
         lenient().doReturn(mockPredicate).when(cb).or(any(Predicate[].class));
         lenient().doReturn(mockPredicate).when(cb).and(any(Predicate[].class));
 
+        when(repository.findAll(any(Specification.class), eq(pageable))).thenReturn(Page.empty());
+
         service.handle(searchQuery);
 
         verify(repository).findAll(specCaptor.capture(), eq(pageable));
@@ -118,7 +134,7 @@ class SearchPhysicalPersonServiceTest {
         String rgValue = "7654321";
         String cellphone = "999999999";
         SearchPhysicalPersonQuery searchQuery = new SearchPhysicalPersonQuery(
-                null, new Rg(rgValue), new Cpf(cpfValue), cellphone, Gender.MALE, pageable);
+                null, new Rg(rgValue), new Cpf(cpfValue), cellphone, Gender.MALE, pageable, PhysicalPersonCountMode.EXACT);
 
         doReturn(path).when(root).get(anyString());
         doReturn(path).when(path).get("value");
@@ -127,6 +143,8 @@ class SearchPhysicalPersonServiceTest {
         lenient().doReturn(mockPredicate).when(cb).equal(any(), any());
         lenient().doReturn(mockPredicate).when(cb).and(any(Predicate[].class));
 
+        when(repository.findAll(any(Specification.class), eq(pageable))).thenReturn(Page.empty());
+
         service.handle(searchQuery);
 
         verify(repository).findAll(specCaptor.capture(), eq(pageable));
@@ -139,4 +157,66 @@ class SearchPhysicalPersonServiceTest {
         verify(cb).like(any(), eq("%" + cellphone + "%"));
         verify(cb).equal(any(), eq(Gender.MALE));
     }
+
+    @Test
+    @DisplayName("Deve buscar na coluna normalizada, sem acentos e sem join, no modo trigrama")
+    void handle_ShouldSearchNormalizedColumn_whenTrigramEngine() {
+        Pageable pageable = PageRequest.of(0, 10);
+        SearchPhysicalPersonQuery searchQuery = new SearchPhysicalPersonQuery("João 123", null, null, null, null, pageable, PhysicalPersonCountMode.EXACT);
+        service = new SearchPhysicalPersonService(repository, countCache, PhysicalPersonSearchEngine.TRIGRAM);
+
+        doReturn(path).when(root).get("searchText");
+        lenient().doReturn(mockPredicate).when(cb).like(any(), anyString());
+        lenient().doReturn(mockPredicate).when(cb).or(any(Predicate[].class));
+        lenient().doReturn(mockPredicate).when(cb).and(any(Predicate[].class));
+
+        when(repository.findAll(any(Specification.class), eq(pageable))).thenReturn(Page.empty());
+
+        service.handle(searchQuery);
+
+        verify(repository).findAll(specCaptor.capture(), eq(pageable));
+        specCaptor.getValue().toPredicate(root, query, cb);
+
+        verify(cb).like(any(), eq("%joao 123%"));
+        verify(cb).like(any(), eq("%123%"));
+        verify(cb).like(any(), eq("%joao123%"));
+        verify(root, never()).join(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve retornar Slice sem executar count quando withCount=false")
+    @SuppressWarnings("unchecked")
+    void handle_ShouldReturnSliceWithoutCount_whenCountModeIsNone() {
+        Pageable pageable = PageRequest.of(2, 10);
+        SearchPhysicalPersonQuery searchQuery = new SearchPhysicalPersonQuery(null, null, null, null, null, pageable, PhysicalPersonCountMode.NONE);
+        Slice<PhysicalPerson> expectedSlice = new SliceImpl<>(List.of(), pageable, true);
+
+        when(repository.findSlice(any(Specification.class), eq(pageable))).thenReturn(expectedSlice);
+
+        Slice<PhysicalPersonResponse> result = service.handle(searchQuery);
+
+        assertEquals(expectedSlice.map(PhysicalPersonResponse::fromEntity), result);
+        verify(repository, never()).findAll(any(Specification.class), any(Pageable.class));
+        verify(repository, never()).count(any(Specification.class));
+        verifyNoInteractions(countCache);
+    }
+
+    @Test
+    @DisplayName("Deve usar o total em cache quando withCount=approx")
+    @SuppressWarnings("unchecked")
+    void handle_ShouldUseCachedTotal_whenCountModeIsApprox() {
+        Pageable pageable = PageRequest.of(0, 1);
+        SearchPhysicalPersonQuery searchQuery = new SearchPhysicalPersonQuery("ana", null, null, null, null, pageable, PhysicalPersonCountMode.APPROX);
+        PhysicalPerson person = PhysicalPerson.create(User.create("ana@test.com", "password123", "Ana", null), new Cpf("51086174968"), null, null, null, null, null);
+
+        when(repository.findSlice(any(Specification.class), eq(pageable))).thenReturn(new SliceImpl<>(List.of(person), pageable, true));
+        when(countCache.count(eq(searchQuery), any())).thenReturn(42L);
+
+        Slice<PhysicalPersonResponse> result = service.handle(searchQuery);
+
+        Page<PhysicalPersonResponse> page = assertInstanceOf(Page.class, result);
+        assertEquals(42L, page.getTotalElements());
+        assertEquals(List.of(PhysicalPersonResponse.fromEntity(person)), page.getContent());
+        verify(repository, never()).count(any(Specification.class));
+    }
 }
@@ -6,6 +6,8 @@ import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.Phys
 import com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.command.SoftDeletePhysicalPersonCommand;
 import com.projetoresgate.projetoresgate_api.core.user.domain.User;
 import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
+import com.projetoresgate.projetoresgate_api.infrastructure.cache.CacheInvalidationPublisher;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.PrincipalCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,6 +29,12 @@ class SoftDeletePhysicalPersonServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
     @InjectMocks
     private SoftDeletePhysicalPersonService service;
 
@@ -44,5 +52,6 @@ class SoftDeletePhysicalPersonServiceTest {
 
         verify(userRepository).delete(user);
         verify(physicalPersonRepository).delete(person);
+        verify(invalidationPublisher).physicalPersonChanged(person.getId());
     }
 }
@@ -0,0 +1,32 @@
+package com.projetoresgate.projetoresgate_api.core.physicalperson.usecase.query;
+
+import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PhysicalPersonCursor - Test")
+class PhysicalPersonCursorTest {
+
+    @Test
+    @DisplayName("Deve codificar e decodificar a posição sem perda de precisão")
+    void encodeAndDecode_shouldRoundTrip() {
+        PhysicalPersonCursor cursor = new PhysicalPersonCursor(LocalDateTime.of(2024, 5, 10, 8, 30, 15, 123456000), UUID.randomUUID());
+
+        String token = cursor.encode();
+
+        assertFalse(token.contains("="));
+        assertEquals(cursor, PhysicalPersonCursor.decode(token));
+    }
+
+    @Test
+    @DisplayName("Deve lançar InternalException para cursor inválido")
+    void decode_shouldThrowException_whenTokenIsInvalid() {
+        assertThrows(InternalException.class, () -> PhysicalPersonCursor.decode("invalido"));
+        assertThrows(InternalException.class, () -> PhysicalPersonCursor.decode("%%%"));
+    }
+}
@@ -3,6 +3,7 @@ package com.projetoresgate.projetoresgate_api.core.user.api;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.projetoresgate.projetoresgate_api.config.security.WithMockCustomUser;
 import com.projetoresgate.projetoresgate_api.core.user.api.dto.AuthenticationResponse;
+import com.projetoresgate.projetoresgate_api.core.user.api.dto.UserResponse;
 import com.projetoresgate.projetoresgate_api.core.user.domain.User;
 import com.projetoresgate.projetoresgate_api.core.user.domain.enums.UserRole;
 import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
@@ -12,8 +13,13 @@ import com.projetoresgate.projetoresgate_api.core.user.usecase.query.Authenticat
 import com.projetoresgate.projetoresgate_api.core.user.usecase.query.FindUserByIdQuery;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.ResourceNotFoundException;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.ClientAddressResolver;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.LoginAttemptLimiter;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.PrincipalCache;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.RejectedTokenCache;
 import com.projetoresgate.projetoresgate_api.infrastructure.security.SecurityConfigurations;
 import com.projetoresgate.projetoresgate_api.infrastructure.services.TokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,7 +30,9 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 
+import java.time.Duration;
 import java.util.Set;
 import java.util.UUID;
 
@@ -36,8 +44,8 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(controllers = UserController.class)
-@Import(SecurityConfigurations.class)
+@WebMvcTest(controllers = UserController.class, properties = "api.security.trusted-proxies=10.0.0.0/8")
+@Import({SecurityConfigurations.class, ClientAddressResolver.class})
 @DisplayName("UserController - Test")
 class UserControllerTest {
 
@@ -65,6 +73,8 @@ class UserControllerTest {
     private RequestEmailConfirmationUseCase requestEmailConfirmationUseCase;
     @MockitoBean
     private ConfirmEmailUseCase confirmEmailUseCase;
+    @MockitoBean
+    private RefreshAccessTokenUseCase refreshAccessTokenUseCase;
 
     @MockitoBean
     private UserDetailsService userDetailsService;
@@ -72,6 +82,10 @@ class UserControllerTest {
     private TokenService tokenService;
     @MockitoBean
     private UserRepository userRepository;
+    @MockitoBean
+    private PrincipalCache principalCache;
+    @MockitoBean
+    private RejectedTokenCache rejectedTokenCache;
 
     @Test
     @DisplayName("POST /user - Deve retornar 201 Created ao criar usuário com sucesso")
@@ -111,8 +125,8 @@ class UserControllerTest {
     @Test
     @DisplayName("POST /user/login - Deve retornar 200 OK com token em login bem-sucedido")
     void login_shouldReturn200OkWithToken() throws Exception {
-        AuthenticateUserQuery query = new AuthenticateUserQuery("test@example.com", "password123");
-        AuthenticationResponse authResponse = new AuthenticationResponse("mock.jwt.token", UUID.randomUUID().toString(), "Test User", "test@example.com", Set.of(UserRole.USER), true);
+        AuthenticateUserQuery query = new AuthenticateUserQuery("test@example.com", "password123", null);
+        AuthenticationResponse authResponse = new AuthenticationResponse("mock.jwt.token", "mock.refresh.token", UUID.randomUUID().toString(), "Test User", "test@example.com", Set.of(UserRole.USER), true);
         when(authenticateUserUseCase.handle(any(AuthenticateUserQuery.class))).thenReturn(authResponse);
 
         mockMvc.perform(post("/user/login")
@@ -127,7 +141,7 @@ class UserControllerTest {
     @Test
     @DisplayName("POST /user/login - Deve retornar 400 Bad Request quando validação falha")
     void login_shouldReturn400_whenValidationFails() throws Exception {
-        AuthenticateUserQuery query = new AuthenticateUserQuery("", "123");
+        AuthenticateUserQuery query = new AuthenticateUserQuery("", "123", null);
 
         mockMvc.perform(post("/user/login")
                         .with(csrf())
@@ -141,7 +155,7 @@ class UserControllerTest {
     @Test
     @DisplayName("POST /user/login - Deve retornar 401 Unauthorized em falha de login")
     void login_shouldReturn401UnauthorizedOnFailure() throws Exception {
-        AuthenticateUserQuery query = new AuthenticateUserQuery("test@example.com", "wrongpassword");
+        AuthenticateUserQuery query = new AuthenticateUserQuery("test@example.com", "wrongpassword", null);
         when(authenticateUserUseCase.handle(any(AuthenticateUserQuery.class))).thenThrow(new BadCredentialsException("Credenciais inválidas"));
 
         mockMvc.perform(post("/user/login")
@@ -151,6 +165,64 @@ class UserControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    @DisplayName("POST /user/login - Deve limitar separadamente clientes diferentes atrás do mesmo balanceador")
+    void login_shouldThrottleEachForwardedClientSeparately() throws Exception {
+        LoginAttemptLimiter limiter = new LoginAttemptLimiter(new SimpleMeterRegistry(), Duration.ofMinutes(1), 1, 5, 100);
+        AuthenticationResponse authResponse = new AuthenticationResponse("mock.jwt.token", "mock.refresh.token", UUID.randomUUID().toString(), "Test User", "test@example.com", Set.of(UserRole.USER), true);
+        when(authenticateUserUseCase.handle(any(AuthenticateUserQuery.class))).thenAnswer(invocation -> {
+            AuthenticateUserQuery received = invocation.getArgument(0);
+            limiter.acquire(received.email(), received.remoteAddress());
+            return authResponse;
+        });
+
+        login("198.51.100.7").andExpect(status().isOk());
+        login("203.0.113.9").andExpect(status().isOk());
+        login("198.51.100.7").andExpect(status().isTooManyRequests());
+
+        verify(authenticateUserUseCase).handle(new AuthenticateUserQuery("test@example.com", "password123", "203.0.113.9"));
+    }
+
+    private ResultActions login(String clientAddress) throws Exception {
+        AuthenticateUserQuery query = new AuthenticateUserQuery("test@example.com", "password123", null);
+        return mockMvc.perform(post("/user/login")
+                .with(csrf())
+                .with(request -> {
+                    request.setRemoteAddr("10.0.0.5");
+                    return request;
+                })
+                .header("X-Forwarded-For", clientAddress)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(query)));
+    }
+
+    @Test
+    @DisplayName("POST /user/token/refresh - Deve retornar 200 OK com novo par de tokens sem autenticação")
+    void refreshToken_shouldReturn200OkWithNewTokens() throws Exception {
+        AuthenticationResponse authResponse = new AuthenticationResponse("new.jwt.token", "new.refresh.token", UUID.randomUUID().toString(), "Test User", "test@example.com", Set.of(UserRole.USER), true);
+        when(refreshAccessTokenUseCase.handle(new RefreshTokenCommand("old.refresh.token"))).thenReturn(authResponse);
+
+        mockMvc.perform(post("/user/token/refresh")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenCommand("old.refresh.token"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").value("new.jwt.token"))
+                .andExpect(jsonPath("$.refreshToken").value("new.refresh.token"));
+    }
+
+    @Test
+    @DisplayName("POST /user/token/refresh - Deve retornar 401 Unauthorized para refresh token reutilizado")
+    void refreshToken_shouldReturn401_whenTokenIsRejected() throws Exception {
+        when(refreshAccessTokenUseCase.handle(any(RefreshTokenCommand.class))).thenThrow(new BadCredentialsException("Refresh token reutilizado"));
+
+        mockMvc.perform(post("/user/token/refresh")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenCommand("reused.refresh.token"))))
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     @WithMockCustomUser
     @DisplayName("GET /user/{id} - Deve retornar 200 OK com dados do usuário quando encontrado")
@@ -158,7 +230,7 @@ class UserControllerTest {
         UUID userId = UUID.randomUUID();
         User foundUser = User.create("test@example.com", "password", "Found User", "foundnick");
         foundUser.setId(userId);
-        when(findUserUseCase.handle(any(FindUserByIdQuery.class))).thenReturn(foundUser);
+        when(findUserUseCase.handle(any(FindUserByIdQuery.class))).thenReturn(UserResponse.fromEntity(foundUser));
 
         mockMvc.perform(get("/user/{id}", userId))
                 .andExpect(status().isOk())
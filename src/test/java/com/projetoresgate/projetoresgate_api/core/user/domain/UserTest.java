@@ -101,4 +101,28 @@ class UserTest {
 
         assertTrue(user.isEmailVerified());
     }
+
+    @Test
+    @DisplayName("Deve revogar tokens ao alterar a senha")
+    void changePassword_ShouldIncrementTokenVersion() {
+        User user = User.create("test@example.com", "password123", "Test User", null);
+        int initialVersion = user.getTokenVersion();
+
+        user.changePassword("newPassword123");
+
+        assertEquals(initialVersion + 1, user.getTokenVersion());
+    }
+
+    @Test
+    @DisplayName("Deve revogar tokens apenas quando um novo papel for adicionado")
+    void addRole_ShouldIncrementTokenVersionOnlyForNewRole() {
+        User user = User.create("test@example.com", "password123", "Test User", null);
+        int initialVersion = user.getTokenVersion();
+
+        user.addRole(UserRole.USER);
+        assertEquals(initialVersion, user.getTokenVersion());
+
+        user.addRole(UserRole.ADMIN);
+        assertEquals(initialVersion + 1, user.getTokenVersion());
+    }
 }
@@ -5,6 +5,8 @@ import com.projetoresgate.projetoresgate_api.core.user.domain.User;
 import com.projetoresgate.projetoresgate_api.core.user.domain.enums.UserRole;
 import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.query.AuthenticateUserQuery;
+import com.projetoresgate.projetoresgate_api.infrastructure.exception.TooManyRequestsException;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.LoginAttemptLimiter;
 import com.projetoresgate.projetoresgate_api.infrastructure.services.TokenService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -37,6 +39,12 @@ class AuthenticateUserServiceTest {
     @Mock
     private TokenService tokenService;
 
+    @Mock
+    private LoginAttemptLimiter loginAttemptLimiter;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @InjectMocks
     private AuthenticateUserService authenticateUserService;
 
@@ -45,7 +53,7 @@ class AuthenticateUserServiceTest {
 
     @BeforeEach
     void setUp() {
-        authQuery = new AuthenticateUserQuery("test@example.com", "password123");
+        authQuery = new AuthenticateUserQuery("test@example.com", "password123", null);
         existingUser = User.create("test@example.com", "encodedPassword", "Test User", "tester");
         existingUser.setId(UUID.randomUUID());
         existingUser.setRoles(Set.of(UserRole.USER));
@@ -57,12 +65,14 @@ class AuthenticateUserServiceTest {
     void handle_shouldReturnResponse_onSuccessfulAuthentication() {
         when(userRepository.findByEmail(authQuery.email())).thenReturn(Optional.of(existingUser));
         when(passwordEncoder.matches(authQuery.password(), existingUser.getPassword())).thenReturn(true);
-        when(tokenService.generateToken(existingUser.getEmail())).thenReturn("mocked.jwt.token");
+        when(tokenService.generateToken(existingUser)).thenReturn("mocked.jwt.token");
+        when(refreshTokenService.issue(existingUser)).thenReturn("mocked.refresh.token");
 
         AuthenticationResponse response = authenticateUserService.handle(authQuery);
 
         assertNotNull(response);
         assertEquals("mocked.jwt.token", response.accessToken());
+        assertEquals("mocked.refresh.token", response.refreshToken());
         assertEquals(existingUser.getId().toString(), response.userId());
         assertEquals(existingUser.getName(), response.name());
         assertEquals(existingUser.getRoles(), response.roles());
@@ -70,7 +80,7 @@ class AuthenticateUserServiceTest {
 
         verify(userRepository).findByEmail(authQuery.email());
         verify(passwordEncoder).matches(authQuery.password(), existingUser.getPassword());
-        verify(tokenService).generateToken(existingUser.getEmail());
+        verify(tokenService).generateToken(existingUser);
     }
 
     @Test
@@ -83,7 +93,8 @@ class AuthenticateUserServiceTest {
         });
 
         verify(passwordEncoder, never()).matches(anyString(), anyString());
-        verify(tokenService, never()).generateToken(anyString());
+        verify(tokenService, never()).generateToken(any(User.class));
+        verifyNoInteractions(refreshTokenService);
     }
 
     @Test
@@ -96,6 +107,59 @@ class AuthenticateUserServiceTest {
             authenticateUserService.handle(authQuery);
         });
 
-        verify(tokenService, never()).generateToken(anyString());
+        verify(tokenService, never()).generateToken(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Deve atualizar o hash da senha quando o custo estiver desatualizado")
+    void handle_shouldUpgradePasswordHash_whenEncodingIsOutdated() {
+        int tokenVersion = existingUser.getTokenVersion();
+        when(userRepository.findByEmail(authQuery.email())).thenReturn(Optional.of(existingUser));
+        when(passwordEncoder.matches(authQuery.password(), "encodedPassword")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode(authQuery.password())).thenReturn("upgradedPassword");
+        when(tokenService.generateToken(existingUser)).thenReturn("mocked.jwt.token");
+
+        authenticateUserService.handle(authQuery);
+
+        assertEquals("upgradedPassword", existingUser.getPassword());
+        assertEquals(tokenVersion, existingUser.getTokenVersion());
+        verify(userRepository).save(existingUser);
+    }
+
+    @Test
+    @DisplayName("Não deve regravar o usuário quando o hash da senha estiver atualizado")
+    void handle_shouldNotSaveUser_whenEncodingIsCurrent() {
+        when(userRepository.findByEmail(authQuery.email())).thenReturn(Optional.of(existingUser));
+        when(passwordEncoder.matches(authQuery.password(), existingUser.getPassword())).thenReturn(true);
+        when(tokenService.generateToken(existingUser)).thenReturn("mocked.jwt.token");
+
+        authenticateUserService.handle(authQuery);
+
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Deve recusar a tentativa antes de consultar o banco quando o limitador bloquear")
+    void handle_shouldThrowTooManyRequests_beforeAnyLookup_whenThrottled() {
+        doThrow(new TooManyRequestsException("Muitas tentativas de login. Tente novamente em instantes."))
+                .when(loginAttemptLimiter).acquire(authQuery.email(), authQuery.remoteAddress());
+
+        assertThrows(TooManyRequestsException.class, () -> authenticateUserService.handle(authQuery));
+
+        verifyNoInteractions(userRepository, passwordEncoder, tokenService);
+    }
+
+    @Test
+    @DisplayName("Deve registrar a falha no limitador quando a senha não corresponde")
+    void handle_shouldRecordFailure_whenPasswordDoesNotMatch() {
+        when(userRepository.findByEmail(authQuery.email())).thenReturn(Optional.of(existingUser));
+        when(passwordEncoder.matches(authQuery.password(), existingUser.getPassword())).thenReturn(false);
+
+        assertThrows(BadCredentialsException.class, () -> authenticateUserService.handle(authQuery));
+
+        verify(loginAttemptLimiter).recordFailure(authQuery.email());
+        verify(loginAttemptLimiter, never()).recordSuccess(anyString());
     }
 }
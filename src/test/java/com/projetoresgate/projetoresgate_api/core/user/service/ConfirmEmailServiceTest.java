@@ -6,15 +6,18 @@ import com.projetoresgate.projetoresgate_api.core.user.repository.EmailConfirmat
 import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.command.ConfirmEmailCommand;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.PrincipalCache;
+import com.projetoresgate.projetoresgate_api.infrastructure.services.ActionTokenMode;
+import com.projetoresgate.projetoresgate_api.infrastructure.services.SignedActionTokenService;
 import com.projetoresgate.projetoresgate_api.infrastructure.utils.TokenUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
@@ -33,7 +36,11 @@ class ConfirmEmailServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
+    @Mock
+    private PrincipalCache principalCache;
+
+    private final SignedActionTokenService signedActionTokenService = new SignedActionTokenService("test-secret");
+
     private ConfirmEmailService confirmEmailService;
 
     private User user;
@@ -42,6 +49,7 @@ class ConfirmEmailServiceTest {
 
     @BeforeEach
     void setUp() {
+        confirmEmailService = newService(ActionTokenMode.DATABASE);
         user = User.create("test@example.com", "password", "Test User", "tester");
         user.setId(UUID.randomUUID());
         user.setIsEmailVerified(false);
@@ -105,4 +113,36 @@ class ConfirmEmailServiceTest {
         verify(userRepository, never()).save(any());
         verify(emailConfirmationTokenRepository, never()).delete(any());
     }
+
+    @Test
+    @DisplayName("Deve confirmar o e-mail com token assinado sem acessar a tabela de tokens")
+    void handle_shouldConfirmEmail_withSignedToken() {
+        confirmEmailService = newService(ActionTokenMode.SIGNED);
+        String token = signedActionTokenService.issue(user, SignedActionTokenService.Purpose.EMAIL_CONFIRMATION, Duration.ofHours(1));
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        confirmEmailService.handle(new ConfirmEmailCommand(token));
+
+        assertTrue(user.isEmailVerified());
+        verify(userRepository).save(user);
+        verify(principalCache).invalidate(user);
+        verifyNoInteractions(emailConfirmationTokenRepository);
+    }
+
+    @Test
+    @DisplayName("Deve recusar token assinado emitido para outra finalidade")
+    void handle_shouldThrowException_whenSignedTokenHasOtherPurpose() {
+        confirmEmailService = newService(ActionTokenMode.SIGNED);
+        String token = signedActionTokenService.issue(user, SignedActionTokenService.Purpose.PASSWORD_RESET, Duration.ofHours(1));
+
+        InternalException exception = assertThrows(InternalException.class, () -> confirmEmailService.handle(new ConfirmEmailCommand(token)));
+
+        assertEquals("Token inválido ou não encontrado.", exception.getMessage());
+        verifyNoInteractions(userRepository);
+    }
+
+    private ConfirmEmailService newService(ActionTokenMode mode) {
+        return new ConfirmEmailService(emailConfirmationTokenRepository, userRepository, principalCache,
+                signedActionTokenService, mode);
+    }
 }
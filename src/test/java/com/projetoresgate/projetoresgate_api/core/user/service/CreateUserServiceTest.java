@@ -4,6 +4,7 @@ import com.projetoresgate.projetoresgate_api.core.user.domain.User;
 import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.RequestEmailConfirmationUseCase;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.command.CreateUserCommand;
+import com.projetoresgate.projetoresgate_api.infrastructure.cache.CacheInvalidationPublisher;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,6 +35,9 @@ class CreateUserServiceTest {
     @Mock
     private RequestEmailConfirmationUseCase requestEmailConfirmationUseCase;
 
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
     @InjectMocks
     private CreateUserService createUserService;
 
@@ -58,6 +62,7 @@ class CreateUserServiceTest {
         assertEquals("tester", capturedUser.getNickname());
         verify(passwordEncoder).encode("password123");
         verify(requestEmailConfirmationUseCase).handle(command.email());
+        verify(invalidationPublisher).userChanged(savedUser.getId(), savedUser.getEmail());
     }
 
     @Test
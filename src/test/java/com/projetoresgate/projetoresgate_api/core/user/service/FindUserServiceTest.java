@@ -1,5 +1,6 @@
 package com.projetoresgate.projetoresgate_api.core.user.service;
 
+import com.projetoresgate.projetoresgate_api.core.user.api.dto.UserResponse;
 import com.projetoresgate.projetoresgate_api.core.user.domain.User;
 import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.query.FindUserByIdQuery;
@@ -39,12 +40,12 @@ class FindUserServiceTest {
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(expectedUser));
 
-        User foundUser = findUserService.handle(query);
+        UserResponse foundUser = findUserService.handle(query);
 
         assertNotNull(foundUser);
-        assertEquals(expectedUser.getId(), foundUser.getId());
-        assertEquals(expectedUser.getName(), foundUser.getName());
-        assertEquals(expectedUser.getEmail(), foundUser.getEmail());
+        assertEquals(expectedUser.getId(), foundUser.id());
+        assertEquals(expectedUser.getName(), foundUser.name());
+        assertEquals(expectedUser.getEmail(), foundUser.email());
 
         verify(userRepository).findById(userId);
     }
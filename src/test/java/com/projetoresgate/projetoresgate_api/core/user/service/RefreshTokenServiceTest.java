@@ -0,0 +1,134 @@
+package com.projetoresgate.projetoresgate_api.core.user.service;
+
+import com.projetoresgate.projetoresgate_api.core.user.domain.RefreshToken;
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.core.user.repository.RefreshTokenRepository;
+import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({RefreshTokenService.class, RefreshTokenServiceTest.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("RefreshTokenService - Test")
+class RefreshTokenServiceTest {
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        // A exclusão de usuários é lógica: e-mails distintos evitam conflito com os registros de outros testes
+        user = userRepository.save(User.create(UUID.randomUUID() + "@example.com", "encodedPassword", "Test User", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve trocar o refresh token por um novo da mesma família")
+    void rotate_shouldIssueNewTokenInSameFamily() {
+        String first = refreshTokenService.issue(user);
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(first);
+
+        assertEquals(user.getId(), rotation.user().getId());
+        assertNotEquals(first, rotation.refreshToken());
+        List<RefreshToken> tokens = refreshTokenRepository.findAll();
+        assertEquals(2, tokens.size());
+        assertEquals(1, tokens.stream().map(RefreshToken::getFamilyId).distinct().count());
+        assertEquals(1, tokens.stream().filter(token -> !token.isRevoked()).count());
+    }
+
+    @Test
+    @DisplayName("Deve revogar a família inteira quando um token já rotacionado for reutilizado")
+    void rotate_shouldRevokeFamily_whenTokenIsReused() {
+        String first = refreshTokenService.issue(user);
+        String second = refreshTokenService.rotate(first).refreshToken();
+        double reusedBefore = count("reused");
+
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.rotate(first));
+
+        assertTrue(refreshTokenRepository.findAll().stream().allMatch(RefreshToken::isRevoked));
+        assertEquals(reusedBefore + 1, count("reused"));
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.rotate(second));
+    }
+
+    @Test
+    @DisplayName("Não deve afetar outras famílias do mesmo usuário")
+    void rotate_shouldKeepOtherFamilies_whenTokenIsReused() {
+        String stolen = refreshTokenService.issue(user);
+        String otherDevice = refreshTokenService.issue(user);
+        refreshTokenService.rotate(stolen);
+
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.rotate(stolen));
+
+        assertNotNull(refreshTokenService.rotate(otherDevice).refreshToken());
+    }
+
+    @Test
+    @DisplayName("Deve recusar a renovação depois da troca de senha")
+    void rotate_shouldReject_whenTokenVersionChanged() {
+        String token = refreshTokenService.issue(user);
+        user.changePassword("anotherEncodedPassword");
+        userRepository.save(user);
+
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.rotate(token));
+    }
+
+    @Test
+    @DisplayName("Deve recusar tokens desconhecidos")
+    void rotate_shouldReject_whenTokenIsUnknown() {
+        double rejectedBefore = count("rejected");
+
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.rotate("desconhecido"));
+        assertEquals(rejectedBefore + 1, count("rejected"));
+    }
+
+    // O registro é compartilhado pelo contexto em cache entre os testes
+    private double count(String result) {
+        return meterRegistry.get("security.tokens.refresh").tag("result", result).counter().count();
+    }
+}
@@ -4,19 +4,24 @@ import com.projetoresgate.projetoresgate_api.core.user.domain.EmailConfirmationT
 import com.projetoresgate.projetoresgate_api.core.user.domain.User;
 import com.projetoresgate.projetoresgate_api.core.user.repository.EmailConfirmationTokenRepository;
 import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
+import com.projetoresgate.projetoresgate_api.infrastructure.email.EmailOutboxMessage;
+import com.projetoresgate.projetoresgate_api.infrastructure.email.EmailTemplateEngine;
 import com.projetoresgate.projetoresgate_api.infrastructure.email.JavaMailEmailService;
+import com.projetoresgate.projetoresgate_api.infrastructure.services.ActionTokenMode;
+import com.projetoresgate.projetoresgate_api.infrastructure.services.SignedActionTokenService;
 import com.projetoresgate.projetoresgate_api.infrastructure.utils.TokenUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -38,7 +43,11 @@ class RequestEmailConfirmationServiceTest {
     @Mock
     private JavaMailEmailService javaMailEmailService;
 
-    @InjectMocks
+    @Spy
+    private EmailTemplateEngine emailTemplateEngine = new EmailTemplateEngine("https://app.projetoresgate.org");
+
+    private final SignedActionTokenService signedActionTokenService = new SignedActionTokenService("test-secret");
+
     private RequestEmailConfirmationService requestEmailConfirmationService;
 
     private User existingUser;
@@ -46,6 +55,7 @@ class RequestEmailConfirmationServiceTest {
 
     @BeforeEach
     void setUp() {
+        requestEmailConfirmationService = newService(ActionTokenMode.DATABASE);
         userEmail = "test@example.com";
         existingUser = User.create(userEmail, "password", "Test User", "tester");
         existingUser.setId(UUID.randomUUID());
@@ -98,7 +108,47 @@ class RequestEmailConfirmationServiceTest {
             String emailHtml = htmlCaptor.getValue();
 
             assertEquals(expectedTokenHash, savedToken.getTokenHash());
-            assertTrue(emailHtml.contains("/confirm-email/" + plainTextToken));
+            assertTrue(emailHtml.contains("https://app.projetoresgate.org/confirm-email/" + plainTextToken));
         }
     }
+
+    @Test
+    @DisplayName("Deve enviar token assinado sem gravar nada no banco no modo SIGNED")
+    void handle_shouldSendSignedTokenWithoutWrites_whenModeIsSigned() {
+        requestEmailConfirmationService = newService(ActionTokenMode.SIGNED);
+        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(existingUser));
+        ArgumentCaptor<String> htmlCaptor = ArgumentCaptor.forClass(String.class);
+
+        requestEmailConfirmationService.handle(userEmail);
+
+        verifyNoInteractions(emailConfirmationTokenRepository);
+        verify(javaMailEmailService).sendHtml(eq(userEmail), anyString(), htmlCaptor.capture());
+        String token = htmlCaptor.getValue().replaceAll("(?s).*confirm-email/([A-Za-z0-9_-]+).*", "$1");
+        SignedActionTokenService.Claims claims = signedActionTokenService.verify(token, SignedActionTokenService.Purpose.EMAIL_CONFIRMATION);
+        assertEquals(existingUser.getId(), claims.userId());
+        assertTrue(signedActionTokenService.isCurrent(claims, existingUser));
+    }
+
+    @Test
+    @DisplayName("Deve enfileirar de uma vez a confirmação de usuários recém-criados no modo SIGNED")
+    @SuppressWarnings("unchecked")
+    void handleNewUsers_shouldQueueAllMessagesWithoutWrites_whenModeIsSigned() {
+        requestEmailConfirmationService = newService(ActionTokenMode.SIGNED);
+        User otherUser = User.create("other@example.com", null, "Other User", null);
+        otherUser.setId(UUID.randomUUID());
+        ArgumentCaptor<List<EmailOutboxMessage>> messagesCaptor = ArgumentCaptor.forClass(List.class);
+
+        requestEmailConfirmationService.handleNewUsers(List.of(existingUser, otherUser));
+
+        verifyNoInteractions(userRepository, emailConfirmationTokenRepository);
+        verify(javaMailEmailService).sendHtmlAll(messagesCaptor.capture());
+        List<EmailOutboxMessage> messages = messagesCaptor.getValue();
+        assertEquals(List.of(userEmail, "other@example.com"), messages.stream().map(EmailOutboxMessage::getRecipient).toList());
+        assertTrue(messages.get(1).getHtmlContent().contains("https://app.projetoresgate.org/confirm-email/"));
+    }
+
+    private RequestEmailConfirmationService newService(ActionTokenMode mode) {
+        return new RequestEmailConfirmationService(userRepository, emailConfirmationTokenRepository, javaMailEmailService,
+                emailTemplateEngine, signedActionTokenService, mode);
+    }
 }
@@ -4,17 +4,20 @@ import com.projetoresgate.projetoresgate_api.core.user.domain.PasswordResetToken
 import com.projetoresgate.projetoresgate_api.core.user.domain.User;
 import com.projetoresgate.projetoresgate_api.core.user.repository.PasswordResetTokenRepository;
 import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
+import com.projetoresgate.projetoresgate_api.infrastructure.email.EmailTemplateEngine;
 import com.projetoresgate.projetoresgate_api.infrastructure.email.JavaMailEmailService;
+import com.projetoresgate.projetoresgate_api.infrastructure.services.ActionTokenMode;
+import com.projetoresgate.projetoresgate_api.infrastructure.services.SignedActionTokenService;
 import com.projetoresgate.projetoresgate_api.infrastructure.utils.TokenUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
@@ -38,7 +41,11 @@ class RequestPasswordResetServiceTest {
     @Mock
     private JavaMailEmailService javaMailEmailService;
 
-    @InjectMocks
+    @Spy
+    private EmailTemplateEngine emailTemplateEngine = new EmailTemplateEngine("https://app.projetoresgate.org");
+
+    private final SignedActionTokenService signedActionTokenService = new SignedActionTokenService("test-secret");
+
     private RequestPasswordResetService requestPasswordResetService;
 
     private User existingUser;
@@ -46,6 +53,7 @@ class RequestPasswordResetServiceTest {
 
     @BeforeEach
     void setUp() {
+        requestPasswordResetService = newService(ActionTokenMode.DATABASE);
         userEmail = "test@example.com";
         existingUser = User.create(userEmail, "password", "Test User", "tester");
         existingUser.setId(UUID.randomUUID());
@@ -86,7 +94,29 @@ class RequestPasswordResetServiceTest {
             String emailHtml = htmlCaptor.getValue();
 
             assertEquals(expectedTokenHash, savedToken.getTokenHash());
-            assertTrue(emailHtml.contains("token=" + plainTextToken));
+            assertTrue(emailHtml.contains("https://app.projetoresgate.org/reset-password?token=" + plainTextToken));
         }
     }
+
+    @Test
+    @DisplayName("Deve enviar token assinado sem gravar nada no banco no modo SIGNED")
+    void handle_shouldSendSignedTokenWithoutWrites_whenModeIsSigned() {
+        requestPasswordResetService = newService(ActionTokenMode.SIGNED);
+        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(existingUser));
+        ArgumentCaptor<String> htmlCaptor = ArgumentCaptor.forClass(String.class);
+
+        requestPasswordResetService.handle(userEmail);
+
+        verifyNoInteractions(passwordResetTokenRepository);
+        verify(javaMailEmailService).sendHtml(eq(userEmail), anyString(), htmlCaptor.capture());
+        String token = htmlCaptor.getValue().replaceAll("(?s).*reset-password\\?token=([A-Za-z0-9_-]+).*", "$1");
+        SignedActionTokenService.Claims claims = signedActionTokenService.verify(token, SignedActionTokenService.Purpose.PASSWORD_RESET);
+        assertEquals(existingUser.getId(), claims.userId());
+        assertTrue(signedActionTokenService.isCurrent(claims, existingUser));
+    }
+
+    private RequestPasswordResetService newService(ActionTokenMode mode) {
+        return new RequestPasswordResetService(userRepository, passwordResetTokenRepository, javaMailEmailService,
+                emailTemplateEngine, signedActionTokenService, mode);
+    }
 }
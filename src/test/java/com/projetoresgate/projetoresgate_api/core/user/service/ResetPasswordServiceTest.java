@@ -5,16 +5,19 @@ import com.projetoresgate.projetoresgate_api.core.user.domain.User;
 import com.projetoresgate.projetoresgate_api.core.user.repository.PasswordResetTokenRepository;
 import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.PrincipalCache;
+import com.projetoresgate.projetoresgate_api.infrastructure.services.ActionTokenMode;
+import com.projetoresgate.projetoresgate_api.infrastructure.services.SignedActionTokenService;
 import com.projetoresgate.projetoresgate_api.infrastructure.utils.TokenUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
@@ -37,7 +40,11 @@ class ResetPasswordServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
-    @InjectMocks
+    @Mock
+    private PrincipalCache principalCache;
+
+    private final SignedActionTokenService signedActionTokenService = new SignedActionTokenService("test-secret");
+
     private ResetPasswordService resetPasswordService;
 
     private User user;
@@ -47,6 +54,7 @@ class ResetPasswordServiceTest {
 
     @BeforeEach
     void setUp() {
+        resetPasswordService = newService(ActionTokenMode.DATABASE);
         user = User.create("test@example.com", "oldPassword", "Test User", "tester");
         user.setId(UUID.randomUUID());
 
@@ -102,4 +110,52 @@ class ResetPasswordServiceTest {
         verify(passwordResetTokenRepository).delete(resetToken);
         verify(userRepository, never()).save(any());
     }
+
+    @Test
+    @DisplayName("Deve redefinir a senha com token assinado sem acessar a tabela de tokens")
+    void handle_shouldResetPassword_withSignedToken() {
+        resetPasswordService = newService(ActionTokenMode.SIGNED);
+        String token = signedActionTokenService.issue(user, SignedActionTokenService.Purpose.PASSWORD_RESET, Duration.ofMinutes(10));
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(passwordEncoder.encode(newPassword)).thenReturn("encodedNewPassword");
+
+        resetPasswordService.handle(token, newPassword);
+
+        assertEquals("encodedNewPassword", user.getPassword());
+        verify(userRepository).save(user);
+        verify(principalCache).invalidate(user);
+        verifyNoInteractions(passwordResetTokenRepository);
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar o mesmo token assinado duas vezes")
+    void handle_shouldRejectSignedToken_whenAlreadyUsed() {
+        resetPasswordService = newService(ActionTokenMode.SIGNED);
+        String token = signedActionTokenService.issue(user, SignedActionTokenService.Purpose.PASSWORD_RESET, Duration.ofMinutes(10));
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(passwordEncoder.encode(newPassword)).thenReturn("encodedNewPassword");
+        resetPasswordService.handle(token, newPassword);
+
+        InternalException exception = assertThrows(InternalException.class, () -> resetPasswordService.handle(token, newPassword));
+
+        assertEquals("Token inválido ou não encontrado.", exception.getMessage());
+        verify(userRepository, times(1)).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o token assinado estiver expirado")
+    void handle_shouldThrowException_whenSignedTokenIsExpired() {
+        resetPasswordService = newService(ActionTokenMode.SIGNED);
+        String token = signedActionTokenService.issue(user, SignedActionTokenService.Purpose.PASSWORD_RESET, Duration.ofMinutes(-1));
+
+        InternalException exception = assertThrows(InternalException.class, () -> resetPasswordService.handle(token, newPassword));
+
+        assertEquals("O token expirou. Solicite uma nova redefinição de senha.", exception.getMessage());
+        verify(userRepository, never()).save(any());
+    }
+
+    private ResetPasswordService newService(ActionTokenMode mode) {
+        return new ResetPasswordService(passwordResetTokenRepository, userRepository, passwordEncoder, principalCache,
+                signedActionTokenService, mode);
+    }
 }
@@ -4,6 +4,7 @@ import com.projetoresgate.projetoresgate_api.core.user.domain.User;
 import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
 import com.projetoresgate.projetoresgate_api.core.user.usecase.command.SoftDeleteUserCommand;
 import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.PrincipalCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,6 +27,9 @@ class SoftDeleteUserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     @InjectMocks
     private SoftDeleteUserService softDeleteUserService;
 
@@ -44,6 +48,7 @@ class SoftDeleteUserServiceTest {
 
         verify(userRepository).findById(userId);
         verify(userRepository).delete(existingUser);
+        verify(principalCache).invalidate(existingUser);
     }
 
     @Test
@@ -61,5 +66,6 @@ class SoftDeleteUserServiceTest {
         assertEquals("Usuário não encontrado.", exception.getMessage());
         verify(userRepository).findById(userId);
         verify(userRepository, never()).delete(any(User.class));
+        verify(principalCache, never()).invalidate(any(User.class));
     }
 }
@@ -0,0 +1,165 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.baseentities;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Roda as migrações em um PostgreSQL real e confere, pelo EXPLAIN, que as consultas de registros ativos
+ * (com o filtro {@code deleted_at is null} do {@code @Where}) usam os índices parciais.
+ */
+@DisplayName("Índices parciais de registros ativos - Test")
+class SoftDeleteIndexPlanTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @BeforeAll
+    static void setUp() throws IOException, SQLException {
+        postgres = EmbeddedPostgres.start();
+        Flyway.configure().dataSource(postgres.getPostgresDatabase()).load().migrate();
+
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            // 5 mil usuários e pessoas físicas, um terço excluído logicamente
+            statement.execute("""
+                    INSERT INTO users (id, email, name, is_email_verified, token_version, deleted_at)
+                    SELECT gen_random_uuid(), 'pessoa' || g || '@example.com', 'Pessoa ' || g, true, 0,
+                           CASE WHEN g % 3 = 0 THEN now() END
+                    FROM generate_series(1, 5000) g
+                    """);
+            statement.execute("""
+                    INSERT INTO physical_persons (id, user_id, cpf, date_created, deleted_at)
+                    SELECT gen_random_uuid(), u.id, lpad(row_number() OVER ()::text, 11, '0'), now(), u.deleted_at
+                    FROM users u
+                    """);
+            // O VACUUM marca as páginas como visíveis, condição para o index-only scan
+            statement.execute("VACUUM ANALYZE users");
+            statement.execute("VACUUM ANALYZE physical_persons");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    @DisplayName("A busca de usuário por e-mail deve usar o índice único parcial")
+    void findByEmail_shouldUsePartialUniqueIndex() throws SQLException {
+        String plan = explain("SELECT u.* FROM users u WHERE u.email = 'pessoa1@example.com' AND (u.deleted_at is null)");
+
+        assertTrue(plan.contains("ux_users_email_active"), plan);
+    }
+
+    @Test
+    @DisplayName("A verificação de CPF existente deve ser atendida apenas pelo índice")
+    void existsByCpf_shouldUseIndexOnlyScan() throws SQLException {
+        String plan = explain("SELECT p.id FROM physical_persons p WHERE p.cpf = '00000000001' AND (p.deleted_at is null) FETCH FIRST 1 ROWS ONLY");
+
+        assertTrue(plan.contains("Index Only Scan using ux_physical_persons_cpf_active"), plan);
+    }
+
+    @Test
+    @DisplayName("A busca de pessoa física por usuário deve usar o índice único parcial")
+    void findByUserId_shouldUsePartialUniqueIndex() throws SQLException {
+        String plan = explain("""
+                SELECT p.* FROM physical_persons p
+                WHERE p.user_id = (SELECT id FROM users WHERE email = 'pessoa1@example.com') AND (p.deleted_at is null)
+                """);
+
+        assertTrue(plan.contains("ux_physical_persons_user_id_active"), plan);
+    }
+
+    @Test
+    @DisplayName("Os índices parciais não devem conter os registros excluídos")
+    void partialIndexes_shouldOnlyContainActiveRows() throws SQLException {
+        assertEquals(3334, indexedTuples("ux_users_email_active"));
+        assertEquals(3334, indexedTuples("ux_physical_persons_cpf_active"));
+    }
+
+    @Test
+    @DisplayName("Deve permitir recadastrar o e-mail de um usuário excluído, mas não duplicar um ativo")
+    void uniqueIndex_shouldOnlyApplyToActiveRows() throws SQLException {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(false);
+
+            statement.executeUpdate("INSERT INTO users (id, email, name, is_email_verified, token_version) "
+                    + "VALUES (gen_random_uuid(), 'pessoa3@example.com', 'Recadastro', false, 0)");
+            assertThrows(SQLException.class, () -> statement.executeUpdate(
+                    "INSERT INTO users (id, email, name, is_email_verified, token_version) "
+                            + "VALUES (gen_random_uuid(), 'pessoa1@example.com', 'Duplicado', false, 0)"));
+
+            connection.rollback();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve remover as restrições únicas antigas qualquer que seja o nome, como as geradas pelo Hibernate")
+    void migration_shouldDropLegacyUniqueKeys_whateverTheirNames() throws SQLException {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE legacy");
+        }
+        DataSource legacy = postgres.getDatabase("postgres", "legacy");
+        Flyway.configure().dataSource(legacy).target("8").load().migrate();
+        try (Connection connection = legacy.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE users RENAME CONSTRAINT users_email_key TO uk6dotkott2kjsp8vw4d0m25fb7");
+            statement.execute("ALTER TABLE physical_persons RENAME CONSTRAINT physical_persons_cpf_key TO ukqrx1fjugpm0wh0kqjcsxbx3m0");
+            statement.execute("ALTER TABLE physical_persons DROP CONSTRAINT physical_persons_user_id_key");
+            statement.execute("CREATE UNIQUE INDEX uk_legacy_physical_persons_user_id ON physical_persons (user_id)");
+        }
+
+        Flyway.configure().dataSource(legacy).load().migrate();
+
+        try (Connection connection = legacy.getConnection();
+             Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery("""
+                    SELECT count(*) FROM pg_indexes
+                    WHERE indexname IN ('uk6dotkott2kjsp8vw4d0m25fb7', 'ukqrx1fjugpm0wh0kqjcsxbx3m0',
+                                        'uk_legacy_physical_persons_user_id', 'idx_physical_persons_cpf')
+                    """)) {
+                assertTrue(resultSet.next());
+                assertEquals(0, resultSet.getLong(1));
+            }
+            statement.executeUpdate("INSERT INTO users (id, email, name, is_email_verified, token_version, deleted_at) "
+                    + "VALUES (gen_random_uuid(), 'antigo@example.com', 'Excluído', true, 0, now())");
+            assertDoesNotThrow(() -> statement.executeUpdate("INSERT INTO users (id, email, name, is_email_verified, token_version) "
+                    + "VALUES (gen_random_uuid(), 'antigo@example.com', 'Recadastro', false, 0)"));
+        }
+    }
+
+    private static String explain(String sql) throws SQLException {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+            StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+            return plan.toString();
+        }
+    }
+
+    private static long indexedTuples(String index) throws SQLException {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT reltuples::bigint FROM pg_class WHERE relname = '" + index + "'")) {
+            assertTrue(resultSet.next());
+            return resultSet.getLong(1);
+        }
+    }
+}
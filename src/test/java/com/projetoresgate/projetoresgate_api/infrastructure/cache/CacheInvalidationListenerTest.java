@@ -0,0 +1,175 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.cache;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.infrastructure.security.PrincipalCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * Envia e recebe avisos de invalidação por um PostgreSQL real, simulando uma segunda réplica com outro publicador.
+ */
+@DisplayName("CacheInvalidationListener - Test")
+class CacheInvalidationListenerTest {
+
+    private static final String LISTENER_APPLICATION = "projetoresgate-cache-invalidation";
+
+    private static EmbeddedPostgres postgres;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private CacheInvalidationPublisher localPublisher;
+    private CacheInvalidationPublisher remotePublisher;
+    private PrincipalCache principalCache;
+    private Cache secondLevelCache;
+    private SimpleMeterRegistry meterRegistry;
+    private CacheInvalidationListener listener;
+
+    @BeforeAll
+    static void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.start();
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        DataSource dataSource = postgres.getPostgresDatabase();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        localPublisher = new CacheInvalidationPublisher(jdbcTemplate, true);
+        remotePublisher = new CacheInvalidationPublisher(jdbcTemplate, true);
+
+        principalCache = mock(PrincipalCache.class);
+        secondLevelCache = mock(Cache.class);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        when(sessionFactory.getCache()).thenReturn(secondLevelCache);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl(postgres.getJdbcUrl("postgres", "postgres"));
+        properties.setUsername("postgres");
+
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new CacheInvalidationListener(properties, localPublisher, principalCache, entityManagerFactory,
+                meterRegistry, true, Duration.ofMillis(500), Duration.ofMillis(100));
+        listener.start();
+        awaitListening();
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+    }
+
+    @Test
+    @DisplayName("Deve aplicar em um único lote os avisos confirmados por outra réplica")
+    void shouldCoalesceCommittedInvalidations() {
+        UUID firstUser = UUID.randomUUID();
+        UUID secondUser = UUID.randomUUID();
+        UUID person = UUID.randomUUID();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            remotePublisher.userChanged(firstUser, "ana@example.com");
+            remotePublisher.userChanged(firstUser, "ana@example.com");
+            remotePublisher.physicalPersonChanged(person);
+        });
+        remotePublisher.userChanged(secondUser, "bia@example.com");
+
+        verify(principalCache, timeout(5000)).evict(secondUser, "bia@example.com");
+        verify(principalCache, times(1)).evict(firstUser, "ana@example.com");
+        verify(secondLevelCache).evictEntityData(User.class, firstUser);
+        verify(secondLevelCache).evictCollectionData(User.class.getName() + ".roles", firstUser);
+        verify(secondLevelCache).evictEntityData(PhysicalPerson.class, person);
+        verify(secondLevelCache, times(1)).evictQueryRegions();
+    }
+
+    @Test
+    @DisplayName("Deve descartar o cache de consultas quando outra réplica incluir registros em massa")
+    void shouldEvictQueryResults_whenAnotherNodeInserts() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS imported_rows (id UUID PRIMARY KEY)");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO imported_rows (id) VALUES (?)", UUID.randomUUID());
+            remotePublisher.queryResultsChanged();
+        });
+
+        verify(secondLevelCache, timeout(5000)).evictQueryRegions();
+        verify(secondLevelCache, never()).evictEntityData(any(Class.class), any());
+        verifyNoInteractions(principalCache);
+        assertEquals(1, meterRegistry.get("cache.invalidation.received").tag("type", "query-results").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar avisos de transações desfeitas e os enviados pela própria réplica")
+    void shouldIgnoreRolledBackAndOwnInvalidations() {
+        UUID rolledBack = UUID.randomUUID();
+        UUID own = UUID.randomUUID();
+        UUID marker = UUID.randomUUID();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            remotePublisher.userChanged(rolledBack, "desfeito@example.com");
+            status.setRollbackOnly();
+        });
+        localPublisher.userChanged(own, "propria@example.com");
+        remotePublisher.userChanged(marker, "marcador@example.com");
+
+        verify(principalCache, timeout(5000)).evict(marker, "marcador@example.com");
+        verify(principalCache, never()).evict(eq(rolledBack), any());
+        verify(principalCache, never()).evict(eq(own), any());
+    }
+
+    @Test
+    @DisplayName("Deve esvaziar os caches ao reconectar e voltar a receber avisos")
+    void shouldFlushEverything_afterReconnecting() {
+        jdbcTemplate.queryForList("SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE application_name = ?",
+                LISTENER_APPLICATION);
+
+        verify(principalCache, timeout(10000)).invalidateAll();
+        verify(secondLevelCache, timeout(5000)).evictAllRegions();
+
+        UUID user = UUID.randomUUID();
+        remotePublisher.userChanged(user, "depois@example.com");
+        verify(principalCache, timeout(5000)).evict(user, "depois@example.com");
+    }
+
+    private void awaitListening() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            Integer listening = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_stat_activity WHERE application_name = ? AND query LIKE 'LISTEN%'",
+                    Integer.class, LISTENER_APPLICATION);
+            if (listening != null && listening > 0) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        assertTrue(false, "O listener não iniciou o LISTEN a tempo");
+    }
+}
@@ -0,0 +1,82 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ConnectionHoldTimeMetrics - Test")
+class ConnectionHoldTimeMetricsTest {
+
+    private MeterRegistry meterRegistry;
+    private ConnectionHoldTimeMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        metrics = new ConnectionHoldTimeMetrics(beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Deve registrar o tempo de posse da conexão com a rota do endpoint")
+    void getConnection_shouldRecordHoldTime_byEndpoint() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/physical-person/123");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/physical-person/{id}");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        Connection target = mock(Connection.class);
+        DataSource dataSource = wrap(target);
+
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        Timer timer = meterRegistry.find("db.connection.hold").tags("method", "GET", "uri", "/physical-person/{id}").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        verify(target, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("Deve marcar conexões abertas fora de requisições HTTP")
+    void getConnection_shouldTagNone_whenOutsideRequest() throws Exception {
+        DataSource dataSource = wrap(mock(Connection.class));
+
+        dataSource.getConnection().close();
+
+        Timer timer = meterRegistry.find("db.connection.hold").tags("method", "none", "uri", "none").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    private DataSource wrap(Connection connection) throws Exception {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(connection);
+        return (DataSource) metrics.postProcessAfterInitialization(target, "dataSource");
+    }
+}
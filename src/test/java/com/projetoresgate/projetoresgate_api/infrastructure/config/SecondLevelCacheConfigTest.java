@@ -0,0 +1,149 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.config;
+
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.PhysicalPerson;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.domain.vo.Cpf;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonBatchWriter;
+import com.projetoresgate.projetoresgate_api.core.physicalperson.repository.PhysicalPersonRepository;
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.core.user.domain.enums.UserRole;
+import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
+import com.projetoresgate.projetoresgate_api.infrastructure.cache.CacheInvalidationPublisher;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(SecondLevelCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("SecondLevelCacheConfig - Test")
+class SecondLevelCacheConfigTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PhysicalPersonRepository physicalPersonRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String table : List.of("physical_persons", "user_roles", "users")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+        entityManagerFactory.getCache().evictAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+    }
+
+    @Test
+    @DisplayName("Deve servir usuário, papéis e busca por e-mail a partir do cache sem novas consultas")
+    void findByEmail_shouldHitCache_onRepeatedLookups() {
+        User user = userRepository.save(User.create("cache@example.com", null, "Cache", null));
+
+        userRepository.findByEmail("cache@example.com").orElseThrow();
+        long statements = statistics.getPrepareStatementCount();
+        User cached = userRepository.findByEmail("cache@example.com").orElseThrow();
+        User byId = userRepository.findById(user.getId()).orElseThrow();
+
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertTrue(cached.getRoles().contains(UserRole.USER));
+        assertEquals("cache@example.com", byId.getEmail());
+        assertTrue(statistics.getDomainDataRegionStatistics(CacheRegions.USERS).getHitCount() > 0);
+        assertTrue(statistics.getCacheRegionStatistics(CacheRegions.USERS_BY_EMAIL).getHitCount() > 0);
+    }
+
+    @Test
+    @DisplayName("Deve remover do cache a pessoa física e o usuário excluídos logicamente")
+    void softDelete_shouldEvictEntitiesAndNaturalKeyLookups() {
+        PhysicalPerson person = physicalPersonRepository.save(PhysicalPerson.create(
+                User.create("excluida@example.com", null, "Excluída", null), new Cpf("39053344705"), null, null, null, null, null));
+        UUID userId = person.getUser().getId();
+
+        // Aquece as regiões de entidades e de consultas; como nos serviços, o usuário vindo do cache é lido na transação
+        for (int i = 0; i < 2; i++) {
+            assertEquals("excluida@example.com", readOnly(() -> physicalPersonRepository.findByUserId(userId).orElseThrow().getUser().getEmail()));
+            assertEquals("excluida@example.com", readOnly(() -> physicalPersonRepository.findById(person.getId()).orElseThrow().getUser().getEmail()));
+        }
+        assertTrue(userRepository.findByEmail("excluida@example.com").isPresent());
+        assertTrue(physicalPersonRepository.existsByCpf(new Cpf("39053344705")));
+        assertTrue(entityManagerFactory.getCache().contains(PhysicalPerson.class, person.getId()));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            PhysicalPerson managed = physicalPersonRepository.findByIdOrThrow(person.getId());
+            userRepository.delete(managed.getUser());
+            physicalPersonRepository.delete(managed);
+        });
+
+        // Em READ_WRITE a entrada removida vira uma trava até expirar: contains() ainda a vê, mas nenhuma leitura a usa
+        long entityHits = statistics.getSecondLevelCacheHitCount();
+        assertTrue(physicalPersonRepository.findById(person.getId()).isEmpty());
+        assertTrue(physicalPersonRepository.findByUserId(userId).isEmpty());
+        assertTrue(userRepository.findById(userId).isEmpty());
+        assertTrue(userRepository.findByEmail("excluida@example.com").isEmpty());
+        assertFalse(physicalPersonRepository.existsByCpf(new Cpf("39053344705")));
+        assertEquals(entityHits, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    @DisplayName("Deve descartar buscas em cache após uma gravação em lote feita por JDBC")
+    void batchWrite_shouldEvictQueryCache() {
+        assertTrue(userRepository.findByEmail("lote@example.com").isEmpty());
+        User user = User.create("lote@example.com", null, "Lote", null);
+        user.setId(UUID.randomUUID());
+        PhysicalPerson person = PhysicalPerson.create(user, new Cpf("12345678909"), null, null, null, null, null);
+        person.setId(UUID.randomUUID());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                new PhysicalPersonBatchWriter(jdbcTemplate, entityManagerFactory, mock(CacheInvalidationPublisher.class)).insertAll(List.of(person)));
+
+        assertTrue(userRepository.findByEmail("lote@example.com").isPresent());
+    }
+
+    private <T> T readOnly(Supplier<T> action) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> action.get());
+    }
+}
@@ -0,0 +1,182 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.email;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("EmailOutboxDispatcher - Test")
+class EmailOutboxDispatcherTest {
+
+    private static final String SENDER = "no-reply@projetoresgate.org";
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private EmailOutboxRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve enviar o lote pendente por uma única conexão SMTP")
+    void drain_shouldSendBatchThroughSingleConnection() throws Exception {
+        JavaMailSenderImpl mailSender = spy(mailSender(ServerSetupTest.SMTP.getPort()));
+        EmailOutboxDispatcher dispatcher = dispatcher(mailSender, "");
+        enqueue(dispatcher, 5);
+
+        dispatcher.drain();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(5, received.length);
+        assertEquals("pessoa0@example.com", received[0].getAllRecipients()[0].toString());
+        verify(mailSender, times(1)).send(any(MimeMessage[].class));
+        assertTrue(repository.findAll().stream().allMatch(message -> message.getStatus() == EmailOutboxStatus.SENT));
+    }
+
+    @Test
+    @DisplayName("Deve apagar o corpo com o token assim que a mensagem for enviada ou desistida")
+    void drain_shouldClearContent_whenMessageIsCompleted() throws Exception {
+        EmailOutboxDispatcher dispatcher = dispatcher(mailSender(ServerSetupTest.SMTP.getPort()), "");
+        String link = "https://app.projetoresgate.org/reset-password/token-secreto";
+        repository.save(EmailOutboxMessage.create("pessoa@example.com", "Redefinição", "<a href=\"" + link + "\">Redefinir</a>"));
+
+        dispatcher.drain();
+
+        assertTrue(GreenMailUtil.getBody(greenMail.getReceivedMessages()[0]).contains("token-secreto"));
+        EmailOutboxMessage sent = repository.findAll().getFirst();
+        assertEquals(EmailOutboxStatus.SENT, sent.getStatus());
+        assertFalse(sent.getHtmlContent().contains("token-secreto"));
+
+        EmailOutboxMessage failed = EmailOutboxMessage.create("pessoa@example.com", "Redefinição", link);
+        failed.claim(LocalDateTime.now());
+        failed.markFailed("Recusado", LocalDateTime.now(), 1);
+        assertEquals(EmailOutboxStatus.FAILED, failed.getStatus());
+        assertEquals("", failed.getHtmlContent());
+    }
+
+    @Test
+    @DisplayName("Não deve gravar nem enviar e-mails quando a transação é desfeita")
+    void sendHtml_shouldNotEnqueue_whenTransactionRollsBack() {
+        EmailOutboxDispatcher dispatcher = dispatcher(mailSender(ServerSetupTest.SMTP.getPort()), "");
+        JavaMailEmailService emailService = new JavaMailEmailService(repository, dispatcher);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            emailService.sendHtml("pessoa@example.com", "Assunto", "<p>Olá</p>");
+            status.setRollbackOnly();
+        });
+        dispatcher.drain();
+
+        assertEquals(0, repository.count());
+        assertEquals(0, greenMail.getReceivedMessages().length);
+    }
+
+    @Test
+    @DisplayName("Deve reagendar com backoff quando o servidor SMTP estiver indisponível")
+    void drain_shouldRescheduleWithBackoff_whenSmtpIsUnavailable() {
+        EmailOutboxDispatcher dispatcher = dispatcher(mailSender(ServerSetupTest.SMTP.getPort() + 1), "");
+        enqueue(dispatcher, 1);
+        LocalDateTime before = LocalDateTime.now();
+
+        dispatcher.drain();
+
+        EmailOutboxMessage message = repository.findAll().getFirst();
+        assertEquals(EmailOutboxStatus.PENDING, message.getStatus());
+        assertEquals(1, message.getAttempts());
+        assertNotNull(message.getLastError());
+        assertTrue(message.getNextAttemptAt().isAfter(before.plusSeconds(29)));
+        assertEquals(0, greenMail.getReceivedMessages().length);
+    }
+
+    @Test
+    @DisplayName("Deve dobrar o intervalo entre tentativas até o limite de uma hora")
+    void backoff_shouldGrowExponentially_untilCap() {
+        assertEquals(Duration.ofSeconds(30), EmailOutboxDispatcher.backoff(1));
+        assertEquals(Duration.ofMinutes(2), EmailOutboxDispatcher.backoff(3));
+        assertEquals(Duration.ofHours(1), EmailOutboxDispatcher.backoff(20));
+    }
+
+    @Test
+    @DisplayName("Deve entregar ao destinatário substituto quando configurado")
+    void drain_shouldUseRecipientOverride_whenConfigured() throws Exception {
+        EmailOutboxDispatcher dispatcher = dispatcher(mailSender(ServerSetupTest.SMTP.getPort()), "homologacao@projetoresgate.org");
+        enqueue(dispatcher, 1);
+
+        dispatcher.drain();
+
+        assertEquals("homologacao@projetoresgate.org", greenMail.getReceivedMessages()[0].getAllRecipients()[0].toString());
+    }
+
+    @Test
+    @DisplayName("Deve enviar os pendentes ao encerrar a aplicação")
+    void stop_shouldDrainPendingMessages() {
+        EmailOutboxDispatcher dispatcher = dispatcher(mailSender(ServerSetupTest.SMTP.getPort()), "");
+        dispatcher.start();
+        repository.saveAll(List.of(
+                EmailOutboxMessage.create("a@example.com", "Assunto", "<p>A</p>"),
+                EmailOutboxMessage.create("b@example.com", "Assunto", "<p>B</p>")));
+
+        dispatcher.stop();
+
+        assertEquals(2, greenMail.getReceivedMessages().length);
+        assertTrue(repository.findAll().stream().allMatch(message -> message.getStatus() == EmailOutboxStatus.SENT));
+    }
+
+    private void enqueue(EmailOutboxDispatcher dispatcher, int count) {
+        JavaMailEmailService emailService = new JavaMailEmailService(repository, dispatcher);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < count; i++) {
+                emailService.sendHtml("pessoa" + i + "@example.com", "Assunto " + i, "<p>Olá " + i + "</p>");
+            }
+        });
+    }
+
+    private EmailOutboxDispatcher dispatcher(JavaMailSenderImpl mailSender, String recipientOverride) {
+        return new EmailOutboxDispatcher(repository, mailSender, transactionManager, new SimpleMeterRegistry(),
+                SENDER, recipientOverride, 1, 50, 1000, 3, Duration.ofHours(1), Duration.ofSeconds(10));
+    }
+
+    private static JavaMailSenderImpl mailSender(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        mailSender.setPort(port);
+        mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "2000");
+        return mailSender;
+    }
+}
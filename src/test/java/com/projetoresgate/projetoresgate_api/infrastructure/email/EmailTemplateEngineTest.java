@@ -0,0 +1,58 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.email;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("EmailTemplateEngine - Test")
+class EmailTemplateEngineTest {
+
+    private final EmailTemplateEngine engine = new EmailTemplateEngine("https://app.projetoresgate.org/");
+
+    @Test
+    @DisplayName("Deve montar o link de redefinição com a URL base configurada")
+    void render_shouldUseConfiguredBaseUrl() {
+        String html = engine.render(EmailTemplateEngine.PASSWORD_RESET, Map.of("token", "abc-123"));
+
+        assertTrue(html.contains("href=\"https://app.projetoresgate.org/reset-password?token=abc-123\""));
+        assertFalse(html.contains("{{"));
+    }
+
+    @Test
+    @DisplayName("Deve escapar os valores inseridos no HTML")
+    void render_shouldEscapeValues() {
+        EmailTemplate template = EmailTemplate.parse("<p>{{ name }}</p><a href=\"{{baseUrl}}\">{{name}}</a>", Map.of("baseUrl", "https://x"));
+
+        assertEquals("<p>&lt;b&gt;Ana&lt;/b&gt;</p><a href=\"https://x\">&lt;b&gt;Ana&lt;/b&gt;</a>",
+                template.render(Map.of("name", "<b>Ana</b>")));
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar o buffer sem misturar renderizações")
+    void render_shouldNotLeakPreviousRender() {
+        EmailTemplate template = EmailTemplate.parse("Olá {{name}}! {{ incompleto", Map.of());
+
+        assertEquals("Olá Maria Eduarda! {{ incompleto", template.render(Map.of("name", "Maria Eduarda")));
+        assertEquals("Olá Ana! {{ incompleto", template.render(Map.of("name", "Ana")));
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando faltar valor para um campo do template")
+    void render_shouldThrow_whenValueIsMissing() {
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.render(EmailTemplateEngine.EMAIL_CONFIRMATION, Map.of()));
+    }
+
+    @Test
+    @DisplayName("Deve falhar para templates inexistentes")
+    void render_shouldThrow_whenTemplateDoesNotExist() {
+        assertThrows(UncheckedIOException.class, () -> engine.render("inexistente", Map.of()));
+    }
+}
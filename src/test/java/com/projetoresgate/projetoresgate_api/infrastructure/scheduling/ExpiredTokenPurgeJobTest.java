@@ -0,0 +1,119 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.scheduling;
+
+import com.projetoresgate.projetoresgate_api.core.user.domain.EmailConfirmationToken;
+import com.projetoresgate.projetoresgate_api.core.user.domain.PasswordResetToken;
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.core.user.repository.EmailConfirmationTokenRepository;
+import com.projetoresgate.projetoresgate_api.core.user.repository.PasswordResetTokenRepository;
+import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
+import com.projetoresgate.projetoresgate_api.infrastructure.email.EmailOutboxMessage;
+import com.projetoresgate.projetoresgate_api.infrastructure.email.EmailOutboxRepository;
+import com.projetoresgate.projetoresgate_api.infrastructure.email.EmailOutboxStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ExpiredTokenPurgeJob - Test")
+class ExpiredTokenPurgeJobTest {
+
+    private static final Duration RETENTION = Duration.ofDays(7);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordResetTokenRepository passwordResetTokenRepository;
+
+    @Autowired
+    private EmailConfirmationTokenRepository emailConfirmationTokenRepository;
+
+    @Autowired
+    private EmailOutboxRepository outboxRepository;
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+        passwordResetTokenRepository.deleteAll();
+        emailConfirmationTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve remover em lotes apenas os tokens expirados e registrar a quantidade removida")
+    void purge_shouldDeleteExpiredTokensInChunks() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            User user = userRepository.save(User.create("pessoa" + i + "@example.com", "encodedPassword", "Pessoa " + i, null));
+            LocalDateTime expiryDate = i < 3 ? now.minusMinutes(1) : now.plusHours(1);
+            passwordResetTokenRepository.save(new PasswordResetToken("reset-" + i, user, expiryDate));
+            emailConfirmationTokenRepository.save(new EmailConfirmationToken("confirm-" + i, user, i < 4 ? now.minusDays(1) : now.plusDays(1)));
+        }
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ExpiredTokenPurgeJob job = new ExpiredTokenPurgeJob(new JdbcTemplate(dataSource), meterRegistry, 2, RETENTION);
+
+        long purged = job.purge();
+
+        assertEquals(7, purged);
+        assertEquals(2, passwordResetTokenRepository.count());
+        assertEquals(1, emailConfirmationTokenRepository.count());
+        assertEquals(3, meterRegistry.get("security.tokens.purged").tag("table", "password_reset_tokens").counter().count());
+        assertEquals(4, meterRegistry.get("security.tokens.purged").tag("table", "email_confirmation_tokens").counter().count());
+    }
+
+    @Test
+    @DisplayName("Não deve remover nada quando não houver tokens expirados")
+    void purge_shouldDoNothing_whenNoTokenIsExpired() {
+        User user = userRepository.save(User.create("pessoa@example.com", "encodedPassword", "Pessoa", null));
+        passwordResetTokenRepository.save(new PasswordResetToken("reset", user, LocalDateTime.now().plusMinutes(10)));
+        ExpiredTokenPurgeJob job = new ExpiredTokenPurgeJob(new JdbcTemplate(dataSource), new SimpleMeterRegistry(), 100, RETENTION);
+
+        assertEquals(0, job.purge());
+        assertEquals(1, passwordResetTokenRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve remover os e-mails concluídos fora do prazo de retenção e manter os pendentes")
+    void purge_shouldDeleteCompletedOutboxMessagesOlderThanRetention() {
+        EmailOutboxMessage oldSent = EmailOutboxMessage.create("a@example.com", "Assunto", "<p>A</p>");
+        oldSent.markSent(LocalDateTime.now());
+        EmailOutboxMessage recentSent = EmailOutboxMessage.create("b@example.com", "Assunto", "<p>B</p>");
+        recentSent.markSent(LocalDateTime.now());
+        EmailOutboxMessage oldPending = EmailOutboxMessage.create("c@example.com", "Assunto", "<p>C</p>");
+        outboxRepository.saveAll(List.of(oldSent, recentSent, oldPending));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("UPDATE email_outbox SET created_at = ? WHERE id IN (?, ?)",
+                LocalDateTime.now().minusDays(8), oldSent.getId(), oldPending.getId());
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ExpiredTokenPurgeJob job = new ExpiredTokenPurgeJob(jdbcTemplate, meterRegistry, 100, RETENTION);
+
+        assertEquals(1, job.purge());
+        assertEquals(List.of(EmailOutboxStatus.SENT, EmailOutboxStatus.PENDING), outboxRepository.findAll().stream()
+                .sorted(Comparator.comparing(EmailOutboxMessage::getRecipient))
+                .map(EmailOutboxMessage::getStatus)
+                .toList());
+        assertEquals(1, meterRegistry.get("security.tokens.purged").tag("table", "email_outbox").counter().count());
+    }
+}
@@ -0,0 +1,107 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.security;
+
+import com.projetoresgate.projetoresgate_api.infrastructure.exception.ServiceUnavailableException;
+import com.projetoresgate.projetoresgate_api.infrastructure.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BoundedPasswordEncoder - Test")
+class BoundedPasswordEncoderTest {
+
+    @Test
+    @DisplayName("Deve gerar e validar hashes e registrar a latência por operação")
+    void encodeAndMatches_shouldDelegateAndRecordLatency() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1, meterRegistry)) {
+            String encoded = encoder.encode("password123");
+
+            assertTrue(encoder.matches("password123", encoded));
+            assertFalse(encoder.matches("wrong", encoded));
+            assertEquals(1, meterRegistry.get("security.password.hashing").tag("operation", "encode").timer().count());
+            assertEquals(2, meterRegistry.get("security.password.hashing").tag("operation", "matches").timer().count());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recusar com TooManyRequestsException quando o pool estiver saturado")
+    void encode_shouldThrowTooManyRequests_whenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 1, meterRegistry)) {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+            while (meterRegistry.get("security.password.hashing.queued").gauge().value() < 1) {
+                Thread.onSpinWait();
+            }
+
+            assertThrows(TooManyRequestsException.class, () -> encoder.encode("third"));
+            assertEquals(1.0, meterRegistry.get("security.password.hashing.rejected").counter().count());
+
+            release.countDown();
+            assertNotNull(running.get(5, TimeUnit.SECONDS));
+            assertNotNull(queued.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recusar com ServiceUnavailableException quando a espera pelo hash for interrompida")
+    void encode_shouldThrowServiceUnavailable_whenInterrupted() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 1, new SimpleMeterRegistry())) {
+            Thread.currentThread().interrupt();
+            try {
+                assertThrows(ServiceUnavailableException.class, () -> encoder.encode("password123"));
+                assertTrue(Thread.currentThread().isInterrupted());
+            } finally {
+                Thread.interrupted();
+                release.countDown();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve indicar atualização para hashes com custo menor que o configurado")
+    void upgradeEncoding_shouldDetectOutdatedCost() {
+        String weakHash = new BCryptPasswordEncoder(4).encode("password123");
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1, new SimpleMeterRegistry())) {
+            assertTrue(encoder.upgradeEncoding(weakHash));
+            assertFalse(encoder.upgradeEncoding(encoder.encode("password123")));
+        }
+    }
+}
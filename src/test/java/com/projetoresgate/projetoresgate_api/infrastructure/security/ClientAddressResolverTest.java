@@ -0,0 +1,44 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("ClientAddressResolver - Test")
+class ClientAddressResolverTest {
+
+    private final ClientAddressResolver resolver = new ClientAddressResolver(new String[]{"10.0.0.0/8", " 192.168.1.1 "});
+
+    @Test
+    @DisplayName("Deve usar o último endereço não confiável do X-Forwarded-For, ignorando o que o cliente forjou")
+    void resolve_shouldSkipTrustedProxiesFromTheRight() {
+        MockHttpServletRequest request = request("10.0.0.5", "1.2.3.4, 198.51.100.7, 192.168.1.1");
+
+        assertEquals("198.51.100.7", resolver.resolve(request));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar o X-Forwarded-For quando a conexão não vem de um proxy confiável")
+    void resolve_shouldUseRemoteAddress_whenPeerIsNotTrusted() {
+        MockHttpServletRequest request = request("203.0.113.9", "198.51.100.7");
+
+        assertEquals("203.0.113.9", resolver.resolve(request));
+    }
+
+    @Test
+    @DisplayName("Deve usar o endereço da conexão quando nenhum proxy estiver configurado")
+    void resolve_shouldUseRemoteAddress_whenNoProxyIsConfigured() {
+        ClientAddressResolver withoutProxies = new ClientAddressResolver(new String[0]);
+
+        assertEquals("10.0.0.5", withoutProxies.resolve(request("10.0.0.5", "198.51.100.7")));
+    }
+
+    private static MockHttpServletRequest request(String remoteAddress, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddress);
+        request.addHeader(ClientAddressResolver.FORWARDED_FOR, forwardedFor);
+        return request;
+    }
+}
@@ -0,0 +1,79 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.security;
+
+import com.projetoresgate.projetoresgate_api.infrastructure.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LoginAttemptLimiter - Test")
+class LoginAttemptLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private final AtomicLong now = new AtomicLong(WINDOW.toNanos() * 10);
+    private SimpleMeterRegistry meterRegistry;
+    private LoginAttemptLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new LoginAttemptLimiter(meterRegistry, WINDOW, 3, 2, 1000, now::get);
+    }
+
+    @Test
+    @DisplayName("Deve recusar o IP que excede o limite de tentativas na janela")
+    void acquire_shouldThrottleIp_whenLimitExceeded() {
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("user" + i + "@example.com", "10.0.0.1");
+        }
+
+        assertThrows(TooManyRequestsException.class, () -> limiter.acquire("other@example.com", "10.0.0.1"));
+        assertDoesNotThrow(() -> limiter.acquire("other@example.com", "10.0.0.2"));
+        assertEquals(1.0, meterRegistry.get("security.login.throttled").tag("scope", "ip").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve recusar o e-mail com falhas em excesso e liberar após sucesso")
+    void acquire_shouldThrottleEmail_afterFailuresUntilSuccess() {
+        limiter.recordFailure("test@example.com");
+        limiter.recordFailure("TEST@example.com ");
+
+        assertThrows(TooManyRequestsException.class, () -> limiter.acquire("test@example.com", null));
+
+        limiter.recordSuccess("test@example.com");
+        assertDoesNotThrow(() -> limiter.acquire("test@example.com", null));
+    }
+
+    @Test
+    @DisplayName("Deve liberar novas tentativas conforme a janela desliza")
+    void acquire_shouldAllowAgain_afterWindowSlides() {
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("test@example.com", "10.0.0.1");
+        }
+        assertThrows(TooManyRequestsException.class, () -> limiter.acquire("test@example.com", "10.0.0.1"));
+
+        now.addAndGet(WINDOW.toNanos() * 2);
+
+        assertDoesNotThrow(() -> limiter.acquire("test@example.com", "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("Deve ponderar as tentativas da janela anterior pela sobreposição")
+    void slidingWindowCounter_shouldWeightPreviousWindow() {
+        LoginAttemptLimiter.SlidingWindowCounter counter = new LoginAttemptLimiter.SlidingWindowCounter();
+        long window = WINDOW.toNanos();
+        long start = window * 10;
+        for (int i = 0; i < 4; i++) {
+            counter.incrementAndEstimate(start, window);
+        }
+
+        assertEquals(2, counter.estimate(start + window + window / 2, window));
+        assertEquals(0, counter.estimate(start + window * 2, window));
+    }
+}
@@ -0,0 +1,112 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.security;
+
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.core.user.repository.UserRepository;
+import com.projetoresgate.projetoresgate_api.infrastructure.cache.CacheInvalidationPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PrincipalCache - Test")
+class PrincipalCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(userRepository, invalidationPublisher, meterRegistry, 100, Duration.ofMinutes(5));
+        user = User.create("test@example.com", "encodedPassword", "Test User", "tester");
+        user.setId(UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco apenas uma vez para o mesmo subject")
+    void findByEmail_shouldHitRepositoryOnce_whenCalledRepeatedly() {
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+
+        Optional<UserDetailsImpl> first = principalCache.findByEmail(user.getEmail());
+        Optional<UserDetailsImpl> second = principalCache.findByEmail(user.getEmail());
+
+        assertTrue(first.isPresent());
+        assertSame(first.get(), second.get());
+        verify(userRepository, times(1)).findByEmail(user.getEmail());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "security.principals").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o usuário após invalidação")
+    void invalidate_shouldForceReload() {
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+
+        principalCache.findByEmail(user.getEmail());
+        principalCache.invalidate(user);
+        principalCache.findByEmail(user.getEmail());
+
+        verify(userRepository, times(2)).findByEmail(user.getEmail());
+        verify(invalidationPublisher).userChanged(user.getId(), user.getEmail());
+    }
+
+    @Test
+    @DisplayName("Deve descartar localmente sem avisar as outras réplicas")
+    void evict_shouldNotPublishInvalidation() {
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+
+        principalCache.findByEmail(user.getEmail());
+        principalCache.evict(user.getId(), user.getEmail());
+        principalCache.findByEmail(user.getEmail());
+
+        verify(userRepository, times(2)).findByEmail(user.getEmail());
+        verifyNoInteractions(invalidationPublisher);
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar usuários inexistentes")
+    void findByEmail_shouldNotCacheMissingUsers() {
+        when(userRepository.findByEmail("missing@example.com")).thenReturn(Optional.empty());
+
+        assertTrue(principalCache.findByEmail("missing@example.com").isEmpty());
+        assertTrue(principalCache.findByEmail("missing@example.com").isEmpty());
+
+        verify(userRepository, times(2)).findByEmail("missing@example.com");
+    }
+
+    @Test
+    @DisplayName("Deve validar a versão do token consultando o banco apenas uma vez")
+    void isTokenVersionCurrent_shouldCompareWithCachedVersion() {
+        when(userRepository.findTokenVersionById(user.getId())).thenReturn(Optional.of(3));
+
+        assertTrue(principalCache.isTokenVersionCurrent(user.getId(), 3));
+        assertFalse(principalCache.isTokenVersionCurrent(user.getId(), 2));
+
+        verify(userRepository, times(1)).findTokenVersionById(user.getId());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tokens de usuários excluídos")
+    void isTokenVersionCurrent_shouldRejectMissingUser() {
+        when(userRepository.findTokenVersionById(user.getId())).thenReturn(Optional.empty());
+
+        assertFalse(principalCache.isTokenVersionCurrent(user.getId(), 0));
+    }
+}
@@ -0,0 +1,25 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("RejectedTokenCache - Test")
+class RejectedTokenCacheTest {
+
+    private final RejectedTokenCache rejectedTokenCache = new RejectedTokenCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("Deve reconhecer apenas tokens previamente recusados")
+    void isRejected_shouldMatchOnlyRejectedTokens() {
+        rejectedTokenCache.reject("invalid-token");
+
+        assertTrue(rejectedTokenCache.isRejected("invalid-token"));
+        assertFalse(rejectedTokenCache.isRejected("another-token"));
+    }
+}
@@ -0,0 +1,111 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.core.user.domain.enums.UserRole;
+import com.projetoresgate.projetoresgate_api.infrastructure.services.TokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("SecurityFilter - Test")
+class SecurityFilterTest {
+
+    private TokenService tokenService;
+    private PrincipalCache principalCache;
+    private RejectedTokenCache rejectedTokenCache;
+    private SecurityFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = new TokenService("test-secret", "default", List.of(), Duration.ofHours(2));
+        principalCache = mock(PrincipalCache.class);
+        rejectedTokenCache = new RejectedTokenCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+        filter = new SecurityFilter(tokenService, principalCache, rejectedTokenCache);
+        ReflectionTestUtils.setField(filter, "statelessPrincipal", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve guardar no cache negativo os tokens com assinatura inválida")
+    void doFilter_shouldRememberToken_whenSignatureIsInvalid() throws Exception {
+        String token = new TokenService("other-secret", "default", List.of(), Duration.ofHours(2)).generateToken(user());
+
+        assertNull(authenticate(token));
+        assertTrue(rejectedTokenCache.isRejected(token));
+    }
+
+    @Test
+    @DisplayName("Não deve guardar no cache negativo um token válido cuja versão ainda não foi vista nesta réplica")
+    void doFilter_shouldNotRememberToken_whenPrincipalLookupFails() throws Exception {
+        User user = user();
+        String token = tokenService.generateToken(user);
+        when(principalCache.isTokenVersionCurrent(user.getId(), user.getTokenVersion())).thenReturn(false, true);
+
+        assertNull(authenticate(token));
+        assertFalse(rejectedTokenCache.isRejected(token));
+
+        Authentication authentication = authenticate(token);
+        assertNotNull(authentication);
+        assertEquals(user.getId(), ((UserDetailsImpl) authentication.getPrincipal()).getUser().getId());
+    }
+
+    @Test
+    @DisplayName("Deve recusar sem erro os tokens emitidos antes da claim com o id do usuário")
+    void doFilter_shouldRejectToken_whenUserIdClaimIsMissing() throws Exception {
+        String token = JWT.create()
+                .withIssuer("projetoresgate_api")
+                .withSubject("pessoa@example.com")
+                .withClaim(TokenService.ROLES_CLAIM, List.of(UserRole.USER.name()))
+                .withClaim(TokenService.TOKEN_VERSION_CLAIM, 0)
+                .withExpiresAt(Instant.now().plus(Duration.ofHours(1)))
+                .sign(Algorithm.HMAC256("test-secret"));
+
+        assertNull(authenticate(token));
+        assertTrue(rejectedTokenCache.isRejected(token));
+        verifyNoInteractions(principalCache);
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static User user() {
+        User user = User.create("pessoa@example.com", "encodedPassword", "Pessoa", null);
+        user.setId(UUID.randomUUID());
+        user.setRoles(Set.of(UserRole.USER));
+        return user;
+    }
+}
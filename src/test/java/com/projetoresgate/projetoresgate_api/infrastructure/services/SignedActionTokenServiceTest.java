@@ -0,0 +1,82 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.services;
+
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SignedActionTokenService - Test")
+class SignedActionTokenServiceTest {
+
+    private final SignedActionTokenService service = new SignedActionTokenService("current-secret");
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.create("test@example.com", "encodedPassword", "Test User", null);
+        user.setId(UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("Deve validar o token emitido enquanto o estado do usuário não mudar")
+    void verify_shouldReturnClaims_forIssuedToken() {
+        String token = service.issue(user, SignedActionTokenService.Purpose.PASSWORD_RESET, Duration.ofMinutes(10));
+
+        SignedActionTokenService.Claims claims = service.verify(token, SignedActionTokenService.Purpose.PASSWORD_RESET);
+
+        assertEquals(user.getId(), claims.userId());
+        assertFalse(claims.isExpired());
+        assertTrue(service.isCurrent(claims, user));
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o token de redefinição quando a senha mudar")
+    void isCurrent_shouldReturnFalse_afterPasswordChange() {
+        String token = service.issue(user, SignedActionTokenService.Purpose.PASSWORD_RESET, Duration.ofMinutes(10));
+
+        user.changePassword("anotherEncodedPassword");
+
+        assertFalse(service.isCurrent(service.verify(token, SignedActionTokenService.Purpose.PASSWORD_RESET), user));
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o token de confirmação quando o e-mail for confirmado")
+    void isCurrent_shouldReturnFalse_afterEmailConfirmation() {
+        String token = service.issue(user, SignedActionTokenService.Purpose.EMAIL_CONFIRMATION, Duration.ofHours(1));
+
+        user.confirmEmail();
+
+        assertFalse(service.isCurrent(service.verify(token, SignedActionTokenService.Purpose.EMAIL_CONFIRMATION), user));
+    }
+
+    @Test
+    @DisplayName("Deve recusar token adulterado, de outra finalidade ou assinado com outro segredo")
+    void verify_shouldThrow_forForgedTokens() {
+        String token = service.issue(user, SignedActionTokenService.Purpose.PASSWORD_RESET, Duration.ofMinutes(10));
+        // Altera um caractere no meio do payload (a validade)
+        int position = token.length() / 3;
+        String tampered = token.substring(0, position) + (token.charAt(position) == 'A' ? 'B' : 'A') + token.substring(position + 1);
+        String otherSecret = new SignedActionTokenService("other-secret")
+                .issue(user, SignedActionTokenService.Purpose.PASSWORD_RESET, Duration.ofMinutes(10));
+
+        assertThrows(InternalException.class, () -> service.verify(tampered, SignedActionTokenService.Purpose.PASSWORD_RESET));
+        assertThrows(InternalException.class, () -> service.verify(token, SignedActionTokenService.Purpose.EMAIL_CONFIRMATION));
+        assertThrows(InternalException.class, () -> service.verify(otherSecret, SignedActionTokenService.Purpose.PASSWORD_RESET));
+        assertThrows(InternalException.class, () -> service.verify("nao-e-um-token", SignedActionTokenService.Purpose.PASSWORD_RESET));
+    }
+
+    @Test
+    @DisplayName("Deve indicar quando o token expirou")
+    void verify_shouldReportExpiration() {
+        String token = service.issue(user, SignedActionTokenService.Purpose.EMAIL_CONFIRMATION, Duration.ofSeconds(-5));
+
+        assertTrue(service.verify(token, SignedActionTokenService.Purpose.EMAIL_CONFIRMATION).isExpired());
+    }
+}
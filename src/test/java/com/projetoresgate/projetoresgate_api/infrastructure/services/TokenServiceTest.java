@@ -0,0 +1,118 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.services;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.projetoresgate.projetoresgate_api.core.user.domain.User;
+import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TokenService - Test")
+class TokenServiceTest {
+
+    private static final Duration TTL = Duration.ofHours(2);
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.create("test@example.com", "encodedPassword", "Test User", null);
+        user.setId(UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("Deve validar token emitido com o segredo atual")
+    void validateToken_shouldReturnSubject_forCurrentKey() {
+        TokenService tokenService = new TokenService("current-secret", "k2", List.of(), TTL);
+
+        String token = tokenService.generateToken(user);
+
+        assertEquals("k2", JWT.decode(token).getKeyId());
+        assertEquals(user.getEmail(), tokenService.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar tokens assinados com um segredo anterior durante a rotação")
+    void validateToken_shouldAcceptPreviousKey() {
+        TokenService previous = new TokenService("old-secret", "k1", List.of(), TTL);
+        TokenService rotated = new TokenService("current-secret", "k2", List.of("k1:old-secret"), TTL);
+
+        String token = previous.generateToken(user);
+
+        assertEquals(user.getEmail(), rotated.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tokens de segredos removidos da rotação")
+    void validateToken_shouldRejectUnknownKey() {
+        TokenService previous = new TokenService("old-secret", "k1", List.of(), TTL);
+        TokenService rotated = new TokenService("current-secret", "k2", List.of(), TTL);
+
+        String token = previous.generateToken(user);
+
+        assertThrows(InternalException.class, () -> rotated.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar tokens sem kid emitidos antes da rotação")
+    void validateToken_shouldAcceptLegacyTokenWithoutKeyId() {
+        TokenService tokenService = new TokenService("current-secret", "k2", List.of(), TTL);
+        String legacyToken = JWT.create()
+                .withIssuer("projetoresgate_api")
+                .withSubject(user.getEmail())
+                .withExpiresAt(Instant.now().plusSeconds(60))
+                .sign(Algorithm.HMAC256("current-secret"));
+
+        assertEquals(user.getEmail(), tokenService.validateToken(legacyToken));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tokens malformados")
+    void validateToken_shouldRejectMalformedToken() {
+        TokenService tokenService = new TokenService("current-secret", "k2", List.of(), TTL);
+
+        assertThrows(InternalException.class, () -> tokenService.validateToken("not-a-jwt"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio para tokens expirados sem lançar exceção")
+    void verify_shouldReturnEmpty_forExpiredToken() {
+        TokenService tokenService = new TokenService("current-secret", "k2", List.of(), TTL);
+        String expiredToken = JWT.create()
+                .withKeyId("k2")
+                .withIssuer("projetoresgate_api")
+                .withSubject(user.getEmail())
+                .withExpiresAt(Instant.now().minusSeconds(60))
+                .sign(Algorithm.HMAC256("current-secret"));
+
+        assertTrue(tokenService.verify(expiredToken).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio para tokens com assinatura inválida")
+    void verify_shouldReturnEmpty_forInvalidSignature() {
+        TokenService tokenService = new TokenService("current-secret", "k2", List.of(), TTL);
+        String forgedToken = new TokenService("other-secret", "k2", List.of(), TTL).generateToken(user);
+
+        assertTrue(tokenService.verify(forgedToken).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve emitir o token de acesso com a validade configurada")
+    void generateToken_shouldUseConfiguredTtl() {
+        TokenService tokenService = new TokenService("current-secret", "k2", List.of(), Duration.ofMinutes(15));
+
+        Instant expiresAt = JWT.decode(tokenService.generateToken(user)).getExpiresAtAsInstant();
+
+        assertTrue(expiresAt.isAfter(Instant.now().plus(Duration.ofMinutes(14))));
+        assertTrue(expiresAt.isBefore(Instant.now().plus(Duration.ofMinutes(16))));
+    }
+}
@@ -0,0 +1,51 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.utils;
+
+import com.projetoresgate.projetoresgate_api.infrastructure.exception.InternalException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("CsvReader - Test")
+class CsvReaderTest {
+
+    @Test
+    @DisplayName("Deve detectar o separador e ler campos entre aspas com quebras de linha")
+    void next_shouldReadQuotedFieldsAndDetectSeparator() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFname;obs\r\n\"Silva; Ana\";\"linha 1\nlinha \"\"2\"\"\"\r\n\r\nBia;,\n"));
+
+        assertEquals(List.of("name", "obs"), reader.next());
+        assertEquals(1, reader.getRecordLine());
+        assertEquals(List.of("Silva; Ana", "linha 1\nlinha \"2\""), reader.next());
+        assertEquals(2, reader.getRecordLine());
+        assertEquals(List.of("Bia", ","), reader.next());
+        assertEquals(5, reader.getRecordLine());
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("Deve ler o último registro sem quebra de linha e manter campos vazios")
+    void next_shouldKeepEmptyFields_whenLastLineHasNoLineBreak() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b,c\n1,,"));
+
+        assertEquals(List.of("a", "b", "c"), reader.next());
+        assertEquals(List.of("1", "", ""), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando as aspas não forem fechadas")
+    void next_shouldThrow_whenQuoteIsNotClosed() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b\n\"aberto,b\n"));
+        reader.next();
+
+        InternalException exception = assertThrows(InternalException.class, reader::next);
+        assertEquals("Aspas não fechadas no registro iniciado na linha 2.", exception.getMessage());
+    }
+}
@@ -0,0 +1,33 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("CsvWriter - Test")
+class CsvWriterTest {
+
+    @Test
+    @DisplayName("Deve colocar entre aspas apenas os campos que precisam e ser lido de volta pelo CsvReader")
+    void writeRecord_shouldQuoteOnlyWhenNeeded() throws IOException {
+        StringWriter output = new StringWriter();
+        CsvWriter writer = new CsvWriter(output);
+
+        writer.writeRecord("nome", "obs");
+        writer.writeRecord("Ana", null);
+        writer.writeRecord("Souza, Ana", "disse \"oi\"\nem duas linhas; fim");
+        writer.flush();
+
+        assertEquals("nome,obs\r\nAna,\r\n\"Souza, Ana\",\"disse \"\"oi\"\"\nem duas linhas; fim\"\r\n", output.toString());
+        CsvReader reader = new CsvReader(new StringReader(output.toString()));
+        assertEquals(List.of("nome", "obs"), reader.next());
+        assertEquals(List.of("Ana", ""), reader.next());
+        assertEquals(List.of("Souza, Ana", "disse \"oi\"\nem duas linhas; fim"), reader.next());
+    }
+}
@@ -0,0 +1,56 @@
+package com.projetoresgate.projetoresgate_api.infrastructure.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("TokenUtils - Test")
+class TokenUtilsTest {
+
+    @Test
+    @DisplayName("Deve gerar o mesmo hash SHA-256 em Base64 pelas APIs de String e de bytes")
+    void hashToken_ShouldMatchReferenceDigest() throws Exception {
+        String token = TokenUtils.generateSecureToken();
+        String expected = Base64.getEncoder().encodeToString(
+                MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(expected, TokenUtils.hashToken(token));
+        assertEquals(expected, TokenUtils.hashToken(token));
+
+        byte[] request = ("token=" + token).getBytes(StandardCharsets.UTF_8);
+        byte[] out = new byte[TokenUtils.HASH_LENGTH];
+        int length = TokenUtils.hashToken(request, 6, request.length - 6, out);
+        assertEquals(TokenUtils.HASH_LENGTH, length);
+        assertEquals(expected, new String(out, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    @DisplayName("Deve gerar tokens distintos de 32 bytes aleatórios a partir de várias threads")
+    void generateSecureToken_ShouldBeUniqueAcrossThreads() throws InterruptedException {
+        Set<String> tokens = ConcurrentHashMap.newKeySet();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 800; i++) {
+                executor.execute(() -> tokens.add(TokenUtils.generateSecureToken()));
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(800, tokens.size());
+        Set<Integer> lengths = new HashSet<>();
+        tokens.forEach(token -> lengths.add(Base64.getUrlDecoder().decode(token).length));
+        assertEquals(Set.of(32), lengths);
+    }
+}